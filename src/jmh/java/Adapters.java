@@ -0,0 +1,175 @@
+import benchmarks.Ops;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.TreeSet;
+
+// Default package bridge between the JMH benchmarks and the collections in src/main/java
+public class Adapters implements Ops.Factory {
+
+    @Override
+    public Ops.IntList intList(String impl, int capacity) {
+        switch (impl) {
+            case "DynamicArray": return new DynamicArrayAdapter(new DynamicArray<>(capacity));
+            case "ArrayList": return new ArrayListAdapter(new ArrayList<>(capacity));
+            default: throw new IllegalArgumentException("Unknown list implementation: " + impl);
+        }
+    }
+
+    @Override
+    public Ops.IntList intList(String impl, int capacity, int[] values) {
+        Ops.IntList list = intList(impl, capacity);
+        for (int value : values) list.push(value);
+        return list;
+    }
+
+    @Override
+    public Ops.IntHeap intHeap(String impl, int capacity) {
+        switch (impl) {
+            case "PriorityQueue": return new PriorityQueueAdapter(PriorityQueue.create(capacity));
+            case "java.util.PriorityQueue": return new JdkPriorityQueueAdapter(new java.util.PriorityQueue<>(capacity));
+            default: throw new IllegalArgumentException("Unknown heap implementation: " + impl);
+        }
+    }
+
+    @Override
+    public Ops.DoubleSet doubleSet(String impl) {
+        switch (impl) {
+            case "BinarySearchTree": return new BinarySearchTreeAdapter(new BinarySearchTree());
+            case "AVLTree": return new AVLTreeAdapter(new AVLTree());
+            case "BPlusTree": return new BPlusTreeAdapter(new BPlusTree());
+            case "ConcurrentSkipList": return new ConcurrentSkipListAdapter(new ConcurrentSkipList());
+            case "TreeSet": return new TreeSetAdapter(new TreeSet<>());
+            default: throw new IllegalArgumentException("Unknown set implementation: " + impl);
+        }
+    }
+
+    @Override
+    public Ops.IntDeque intDeque(String impl) {
+        switch (impl) {
+            case "SinglyLinkedList": return new SinglyLinkedListAdapter(new SinglyLinkedList<>());
+            case "DoublyLinkedList": return new DoublyLinkedListAdapter(new DoublyLinkedList<>());
+            case "LinkedList": return new JdkDequeAdapter(new LinkedList<>());
+            case "ArrayDeque": return new JdkDequeAdapter(new ArrayDeque<>());
+            default: throw new IllegalArgumentException("Unknown deque implementation: " + impl);
+        }
+    }
+
+    private record DynamicArrayAdapter(DynamicArray<Integer> arr) implements Ops.IntList {
+        public void push(int value) { arr.push(value); }
+        public int get(int index) { return arr.get(index); }
+        public int removeAt(int index) { return arr.removeAt(index); }
+        public int indexOf(int value) { return arr.indexOf(value); }
+        public int size() { return arr.size(); }
+    }
+
+    private record ArrayListAdapter(List<Integer> list) implements Ops.IntList {
+        public void push(int value) { list.add(value); }
+        public int get(int index) { return list.get(index); }
+        public int removeAt(int index) { return list.remove(index); }
+        public int indexOf(int value) { return list.indexOf(value); }
+        public int size() { return list.size(); }
+    }
+
+    private record PriorityQueueAdapter(PriorityQueue<Integer> pq) implements Ops.IntHeap {
+        public void add(int value) { pq.add(value); }
+        public int poll() { return pq.poll(); }
+        public boolean remove(int value) { return pq.remove(value); }
+        public int size() { return pq.getSize(); }
+    }
+
+    private record JdkPriorityQueueAdapter(java.util.PriorityQueue<Integer> pq) implements Ops.IntHeap {
+        public void add(int value) { pq.add(value); }
+        public int poll() { return pq.poll(); }
+        public boolean remove(int value) { return pq.remove(value); }
+        public int size() { return pq.size(); }
+    }
+
+    private record BinarySearchTreeAdapter(BinarySearchTree bst) implements Ops.DoubleSet {
+        public boolean insert(double value) { return bst.insert(value); }
+        public boolean search(double value) { return bst.search(value); }
+        public boolean delete(double value) { return bst.delete(value); }
+        public double sumInOrder() {
+            double sum = 0;
+            for (Iterator<Double> it = bst.iterator(); it.hasNext(); ) sum += it.next();
+            return sum;
+        }
+        public int size() { return bst.getSize(); }
+    }
+
+    private record AVLTreeAdapter(AVLTree tree) implements Ops.DoubleSet {
+        public boolean insert(double value) { return tree.insert(value); }
+        public boolean search(double value) { return tree.search(value); }
+        public boolean delete(double value) { return tree.delete(value); }
+        public double sumInOrder() {
+            double sum = 0;
+            for (Iterator<Double> it = tree.iterator(); it.hasNext(); ) sum += it.next();
+            return sum;
+        }
+        public int size() { return tree.getSize(); }
+    }
+
+    private record BPlusTreeAdapter(BPlusTree tree) implements Ops.DoubleSet {
+        public boolean insert(double value) { return tree.insert(value); }
+        public boolean search(double value) { return tree.search(value); }
+        public boolean delete(double value) { return tree.delete(value); }
+        public double sumInOrder() {
+            double sum = 0;
+            for (PrimitiveIterator.OfDouble it = tree.iterator(); it.hasNext(); ) sum += it.nextDouble();
+            return sum;
+        }
+        public int size() { return tree.getSize(); }
+    }
+
+    private record ConcurrentSkipListAdapter(ConcurrentSkipList list) implements Ops.DoubleSet {
+        public boolean insert(double value) { return list.insert(value); }
+        public boolean search(double value) { return list.search(value); }
+        public boolean delete(double value) { return list.delete(value); }
+        public double sumInOrder() {
+            double sum = 0;
+            for (Iterator<Double> it = list.iterator(); it.hasNext(); ) sum += it.next();
+            return sum;
+        }
+        public int size() { return list.getSize(); }
+    }
+
+    private record TreeSetAdapter(TreeSet<Double> set) implements Ops.DoubleSet {
+        public boolean insert(double value) { return set.add(value); }
+        public boolean search(double value) { return set.contains(value); }
+        public boolean delete(double value) { return set.remove(value); }
+        public double sumInOrder() {
+            double sum = 0;
+            for (Iterator<Double> it = set.iterator(); it.hasNext(); ) sum += it.next();
+            return sum;
+        }
+        public int size() { return set.size(); }
+    }
+
+    private record SinglyLinkedListAdapter(SinglyLinkedList<Integer> list) implements Ops.IntDeque {
+        public void addFirst(int value) { list.addFirst(value); }
+        public void addLast(int value) { list.addLast(value); }
+        public int removeFirst() { return list.removeFirst(); }
+        public int removeLast() { return list.removeLast(); }
+        public int size() { return list.getSize(); }
+    }
+
+    private record DoublyLinkedListAdapter(DoublyLinkedList<Integer> list) implements Ops.IntDeque {
+        public void addFirst(int value) { list.addFirst(value); }
+        public void addLast(int value) { list.addLast(value); }
+        public int removeFirst() { return list.removeFirst(); }
+        public int removeLast() { return list.removeLast(); }
+        public int size() { return list.getSize(); }
+    }
+
+    private record JdkDequeAdapter(java.util.Deque<Integer> deque) implements Ops.IntDeque {
+        public void addFirst(int value) { deque.addFirst(value); }
+        public void addLast(int value) { deque.addLast(value); }
+        public int removeFirst() { return deque.removeFirst(); }
+        public int removeLast() { return deque.removeLast(); }
+        public int size() { return deque.size(); }
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// BinarySearchTree, AVLTree and BPlusTree vs java.util.TreeSet, run with -prof gc for allocation rates.
+// Keys are random so the unbalanced tree stays at its expected O(log(n)) depth.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class BinarySearchTreeBenchmark {
+    private static final int PROBES = 4096;
+
+    @Param({"BinarySearchTree", "AVLTree", "BPlusTree", "ConcurrentSkipList", "TreeSet"})
+    private String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private double[] keys;
+    private double[] absentKeys;
+    private int[] probes;
+    private int cursor;
+    private Ops.DoubleSet set;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        set = Ops.factory().doubleSet(impl);
+        keys = new double[size];
+        for (int i = 0; i < size; ) {
+            double key = random.nextDouble();
+            if (set.insert(key)) keys[i++] = key;
+        }
+        // Keys outside [0, 1) are never in the tree
+        absentKeys = random.doubles(PROBES, 1, 2).toArray();
+        probes = random.ints(PROBES, 0, size).toArray();
+    }
+
+    private int nextProbe() {
+        return probes[cursor++ & (PROBES - 1)];
+    }
+
+    // Inserts a new leaf and deletes it again to keep the tree unchanged
+    @Benchmark
+    public boolean insert() {
+        double key = absentKeys[cursor++ & (PROBES - 1)];
+        boolean inserted = set.insert(key);
+        set.delete(key);
+        return inserted;
+    }
+
+    @Benchmark
+    public boolean search() {
+        return set.search(keys[nextProbe()]);
+    }
+
+    // Deletes an existing key (leaf, inner node or root) and inserts it back
+    @Benchmark
+    public boolean delete() {
+        double key = keys[nextProbe()];
+        boolean deleted = set.delete(key);
+        set.insert(key);
+        return deleted;
+    }
+
+    @Benchmark
+    public double iterator() {
+        return set.sumInOrder();
+    }
+}
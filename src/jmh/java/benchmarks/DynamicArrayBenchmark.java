@@ -0,0 +1,66 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// DynamicArray vs java.util.ArrayList, run with -prof gc for allocation rates
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class DynamicArrayBenchmark {
+    private static final int PROBES = 4096;
+
+    @Param({"DynamicArray", "ArrayList"})
+    private String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private int[] values;
+    private int[] probes;
+    private int cursor;
+    private Ops.IntList list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = random.ints(size).toArray();
+        probes = random.ints(PROBES, 0, size).toArray();
+        list = Ops.factory().intList(impl, size, values);
+    }
+
+    private int nextProbe() {
+        return probes[cursor++ & (PROBES - 1)];
+    }
+
+    // Builds a whole array from capacity 1, so every resize is on the clock
+    @Benchmark
+    public Ops.IntList push() {
+        Ops.IntList fresh = Ops.factory().intList(impl, 1);
+        for (int value : values) fresh.push(value);
+        return fresh;
+    }
+
+    @Benchmark
+    public int get() {
+        return list.get(nextProbe());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(values[nextProbe()]);
+    }
+
+    // Removes from a random index and pushes the element back to keep the size steady
+    @Benchmark
+    public int removeAt() {
+        int removed = list.removeAt(nextProbe());
+        list.push(removed);
+        return removed;
+    }
+}
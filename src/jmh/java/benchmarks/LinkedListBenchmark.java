@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// SinglyLinkedList and DoublyLinkedList vs java.util.LinkedList and ArrayDeque,
+// run with -prof gc for allocation rates
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class LinkedListBenchmark {
+    private static final int PROBES = 4096;
+
+    @Param({"SinglyLinkedList", "DoublyLinkedList", "LinkedList", "ArrayDeque"})
+    private String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private int[] values;
+    private int cursor;
+    private Ops.IntDeque deque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new SplittableRandom(42).ints(PROBES).toArray();
+        deque = Ops.factory().intDeque(impl);
+        for (int i = 0; i < size; i++) deque.addFirst(values[i & (PROBES - 1)]);
+    }
+
+    // Each pair leaves the list at its original size
+    @Benchmark
+    public int addFirstRemoveFirst() {
+        deque.addFirst(values[cursor++ & (PROBES - 1)]);
+        return deque.removeFirst();
+    }
+
+    // SinglyLinkedList.removeLast walks the whole list, O(n)
+    @Benchmark
+    public int addLastRemoveLast() {
+        deque.addLast(values[cursor++ & (PROBES - 1)]);
+        return deque.removeLast();
+    }
+}
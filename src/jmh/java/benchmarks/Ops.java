@@ -0,0 +1,65 @@
+package benchmarks;
+
+// The collections under test live in the default package, which a named package
+// can't import, and JMH refuses benchmark classes in the default package. Every
+// implementation (ours and java.util) is therefore wrapped by an adapter in the
+// default package (see Adapters.java) and reached through these interfaces, so
+// both sides of a comparison pay the same single, monomorphic interface call.
+public final class Ops {
+    private static final Factory FACTORY = loadFactory();
+
+    private Ops() {
+    }
+
+    public interface IntList {
+        void push(int value);
+        int get(int index);
+        int removeAt(int index);
+        int indexOf(int value);
+        int size();
+    }
+
+    public interface IntHeap {
+        void add(int value);
+        int poll();
+        boolean remove(int value);
+        int size();
+    }
+
+    public interface DoubleSet {
+        boolean insert(double value);
+        boolean search(double value);
+        boolean delete(double value);
+        double sumInOrder();
+        int size();
+    }
+
+    public interface IntDeque {
+        void addFirst(int value);
+        void addLast(int value);
+        int removeFirst();
+        int removeLast();
+        int size();
+    }
+
+    public interface Factory {
+        IntList intList(String impl, int capacity);
+        IntList intList(String impl, int capacity, int[] values);
+        IntHeap intHeap(String impl, int capacity);
+        DoubleSet doubleSet(String impl);
+        IntDeque intDeque(String impl);
+    }
+
+    public static Factory factory() {
+        return FACTORY;
+    }
+
+    private static Factory loadFactory() {
+        try {
+            return (Factory) Class.forName("Adapters").getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't load benchmark adapters", e);
+        }
+    }
+}
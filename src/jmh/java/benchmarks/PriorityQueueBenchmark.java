@@ -0,0 +1,57 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// PriorityQueue vs java.util.PriorityQueue, run with -prof gc for allocation rates
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+    private static final int PROBES = 4096;
+
+    @Param({"PriorityQueue", "java.util.PriorityQueue"})
+    private String impl;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private int[] values;
+    private int[] probes;
+    private int cursor;
+    private Ops.IntHeap heap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = random.ints(size).toArray();
+        probes = random.ints(PROBES, 0, size).toArray();
+        heap = Ops.factory().intHeap(impl, size);
+        for (int value : values) heap.add(value);
+    }
+
+    private int nextProbe() {
+        return probes[cursor++ & (PROBES - 1)];
+    }
+
+    // add followed by poll keeps the heap at a steady size
+    @Benchmark
+    public int addPoll() {
+        heap.add(values[nextProbe()]);
+        return heap.poll();
+    }
+
+    // Removes an element known to be in the heap and puts it back
+    @Benchmark
+    public boolean remove() {
+        int value = values[nextProbe()];
+        boolean removed = heap.remove(value);
+        heap.add(value);
+        return removed;
+    }
+}
@@ -0,0 +1,289 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Self-balancing BinarySearchTree. Every node keeps the height of its subtree and
+// the heights of two siblings never differ by more than one, which keeps the
+// whole tree at most about 1.44 * log2(n) deep, even for sorted input.
+//
+// Keys are unboxed doubles ordered by Double.compare, which agrees with
+// Double.equals. Descent and rebalancing are loops that climb back up through
+// parent links, so no operation recurses.
+public class AVLTree implements Iterable<Double> {
+    private Node root;
+    private int size;
+
+    class Node {
+        double data;
+        int height = 1;
+        Node parent = null;
+        Node left = null;
+        Node right = null;
+
+        public Node(double data) {
+            this.data = data;
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(data);
+        }
+    }
+
+    public AVLTree() {
+    }
+
+    public AVLTree(Double data) {
+        insert(data);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    // Height of the tree, 0 when it is empty
+    public int getHeight() {
+        return height(root);
+    }
+
+    public Double getMinVal() {
+        if(isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        return minNode(root).data;
+    }
+
+    public Double getMaxVal() {
+        if(isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        Node node = root;
+        while(node.right != null) {
+            node = node.right;
+        }
+        return node.data;
+    }
+
+    private Node minNode(Node node) {
+        while(node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    public boolean search(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't search for NULL value");
+        }
+
+        return find(data) != null;
+    }
+
+    // O(log(n))
+    private Node find(double data) {
+        Node node = root;
+        while(node != null) {
+            int cmp = Double.compare(data, node.data);
+            if(cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    // O(log(n)), returns false if data is already in the tree
+    public boolean insert(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't insert NULL value");
+        }
+
+        double key = data;
+        if(root == null) {
+            root = new Node(key);
+            size++;
+            return true;
+        }
+
+        Node parent = root;
+        while(true) {
+            int cmp = Double.compare(key, parent.data);
+            if(cmp == 0) {
+                return false;
+            }
+
+            Node next = cmp < 0 ? parent.left : parent.right;
+            if(next == null) {
+                break;
+            }
+            parent = next;
+        }
+
+        Node node = new Node(key);
+        node.parent = parent;
+        if(Double.compare(key, parent.data) < 0) {
+            parent.left = node;
+        }
+        else {
+            parent.right = node;
+        }
+
+        size++;
+        rebalanceUpwards(parent);
+        return true;
+    }
+
+    // O(log(n)), returns false if data isn't in the tree
+    public boolean delete(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+
+        Node node = find(data);
+        if(node == null) {
+            return false;
+        }
+
+        if(node.left != null && node.right != null) {
+            // Move the in-order successor's value up and unlink the successor instead,
+            // it has no left child so it falls into the single child case below
+            Node successor = minNode(node.right);
+            node.data = successor.data;
+            node = successor;
+        }
+
+        Node child = node.left != null ? node.left : node.right;
+        Node parent = node.parent;
+        replaceChild(parent, node, child);
+        node.parent = node.left = node.right = null;
+
+        size--;
+        rebalanceUpwards(parent);
+        return true;
+    }
+
+    // Puts child in place of node under parent, a null parent means node is the root
+    private void replaceChild(Node parent, Node node, Node child) {
+        if(child != null) {
+            child.parent = parent;
+        }
+
+        if(parent == null) {
+            root = child;
+        }
+        else if(parent.left == node) {
+            parent.left = child;
+        }
+        else {
+            parent.right = child;
+        }
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private void updateHeight(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private int balance(Node node) {
+        return height(node.left) - height(node.right);
+    }
+
+    // Restores heights and balance on the path from node up to the root, O(log(n))
+    private void rebalanceUpwards(Node node) {
+        while(node != null) {
+            updateHeight(node);
+            int balance = balance(node);
+
+            if(balance > 1) {
+                if(balance(node.left) < 0) {
+                    rotateLeft(node.left);
+                }
+                node = rotateRight(node);
+            }
+            else if(balance < -1) {
+                if(balance(node.right) > 0) {
+                    rotateRight(node.right);
+                }
+                node = rotateLeft(node);
+            }
+
+            node = node.parent;
+        }
+    }
+
+    // Lifts node.right into node's place and returns it, O(1)
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        if(pivot.left != null) {
+            pivot.left.parent = node;
+        }
+
+        replaceChild(node.parent, node, pivot);
+        pivot.left = node;
+        node.parent = pivot;
+
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    // Lifts node.left into node's place and returns it, O(1)
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        if(pivot.right != null) {
+            pivot.right.parent = node;
+        }
+
+        replaceChild(node.parent, node, pivot);
+        pivot.right = node;
+        node.parent = pivot;
+
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new AVLTreeIterator();
+    }
+
+    // Walks to the in-order successor through parent links, so it needs no stack
+    private class AVLTreeIterator implements Iterator<Double> {
+        private Node next = root == null ? null : minNode(root);
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Double next() {
+            if(next == null) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            Node curr = next;
+            if(curr.right != null) {
+                next = minNode(curr.right);
+            }
+            else {
+                Node child = curr;
+                next = curr.parent;
+                while(next != null && next.right == child) {
+                    child = next;
+                    next = next.parent;
+                }
+            }
+            return curr.data;
+        }
+    }
+}
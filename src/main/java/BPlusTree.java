@@ -0,0 +1,381 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// Ordered set of double keys stored as a B+-tree. Every node holds up to
+// fanOut - 1 keys in a primitive double[], so one node spans a few cache lines
+// and a lookup takes log_fanOut(n) node visits instead of the log2(n) pointer
+// hops of a BinarySearchTree. All keys live in the leaves, which are linked in
+// order, so iteration and range scans just walk along the leaf chain.
+//
+// Keys are ordered by Double.compare, which agrees with Double.equals.
+public class BPlusTree implements Iterable<Double> {
+    private final int maxKeys;
+    private final int minKeys;   // every node but the root keeps at least this many keys
+    private Node root = null;
+    private Leaf firstLeaf = null;
+    private int size = 0;
+
+    // Set by insert when a key was added and by a split to the key that moves up
+    private boolean inserted;
+    private double splitKey;
+
+    private abstract static class Node {
+        final double[] keys;
+        int count = 0;
+
+        Node(int maxKeys) {
+            keys = new double[maxKeys + 1];   // one spare slot to overflow into before splitting
+        }
+    }
+
+    private static final class Leaf extends Node {
+        Leaf prev = null;
+        Leaf next = null;
+
+        Leaf(int maxKeys) {
+            super(maxKeys);
+        }
+    }
+
+    // children[i] holds the keys below keys[i], children[i + 1] those from keys[i] up
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int maxKeys) {
+            super(maxKeys);
+            children = new Node[maxKeys + 2];
+        }
+    }
+
+    public BPlusTree() {
+        this(64);
+    }
+
+    public BPlusTree(int fanOut) {
+        if (fanOut < 4) {
+            throw new IllegalArgumentException("Fan-out should be at least 4");
+        }
+
+        maxKeys = fanOut - 1;
+        minKeys = maxKeys / 2;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // First index whose key is >= key
+    private static int lowerBound(Node node, double key) {
+        int lo = 0;
+        int hi = node.count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(node.keys[mid], key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // First index whose key is > key, which is also the child of an inner node to descend into
+    private static int upperBound(Node node, double key) {
+        int lo = 0;
+        int hi = node.count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Double.compare(node.keys[mid], key) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private Leaf findLeaf(double key) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[upperBound(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    public Double getMinVal() {
+        if (isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        return firstLeaf.keys[0];
+    }
+
+    public Double getMaxVal() {
+        if (isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[inner.count];
+        }
+        return node.keys[node.count - 1];
+    }
+
+    // O(log(n))
+    public boolean search(double key) {
+        if (isEmpty()) return false;
+
+        Leaf leaf = findLeaf(key);
+        int i = lowerBound(leaf, key);
+        return i < leaf.count && Double.compare(leaf.keys[i], key) == 0;
+    }
+
+    // O(fanOut * log_fanOut(n)), returns false if key is already in the tree
+    public boolean insert(double key) {
+        if (root == null) {
+            root = firstLeaf = new Leaf(maxKeys);
+        }
+
+        Node sibling = insert(root, key);
+        if (!inserted) return false;
+
+        if (sibling != null) {
+            // The root split, grow the tree by one level
+            Inner newRoot = new Inner(maxKeys);
+            newRoot.keys[0] = splitKey;
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.count = 1;
+            root = newRoot;
+        }
+
+        size++;
+        return true;
+    }
+
+    // Returns the new right sibling if node had to split, null otherwise
+    private Node insert(Node node, double key) {
+        if (node instanceof Leaf leaf) {
+            int i = lowerBound(leaf, key);
+            if (i < leaf.count && Double.compare(leaf.keys[i], key) == 0) {
+                inserted = false;
+                return null;
+            }
+
+            System.arraycopy(leaf.keys, i, leaf.keys, i + 1, leaf.count - i);
+            leaf.keys[i] = key;
+            leaf.count++;
+            inserted = true;
+            return leaf.count > maxKeys ? splitLeaf(leaf) : null;
+        }
+
+        Inner inner = (Inner) node;
+        int i = upperBound(inner, key);
+        Node sibling = insert(inner.children[i], key);
+        if (sibling == null) return null;
+
+        System.arraycopy(inner.keys, i, inner.keys, i + 1, inner.count - i);
+        System.arraycopy(inner.children, i + 1, inner.children, i + 2, inner.count - i);
+        inner.keys[i] = splitKey;
+        inner.children[i + 1] = sibling;
+        inner.count++;
+        return inner.count > maxKeys ? splitInner(inner) : null;
+    }
+
+    // Moves the upper half of an overflowing leaf to a new leaf, whose first key goes up
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf(maxKeys);
+        int mid = leaf.count / 2;
+        right.count = leaf.count - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.count);
+        leaf.count = mid;
+
+        right.prev = leaf;
+        right.next = leaf.next;
+        if (leaf.next != null) leaf.next.prev = right;
+        leaf.next = right;
+
+        splitKey = right.keys[0];
+        return right;
+    }
+
+    // Moves the keys above the middle one to a new node, the middle key goes up
+    private Inner splitInner(Inner inner) {
+        Inner right = new Inner(maxKeys);
+        int mid = inner.count / 2;
+        splitKey = inner.keys[mid];
+
+        right.count = inner.count - mid - 1;
+        System.arraycopy(inner.keys, mid + 1, right.keys, 0, right.count);
+        System.arraycopy(inner.children, mid + 1, right.children, 0, right.count + 1);
+        for (int i = mid + 1; i <= inner.count; i++) inner.children[i] = null;
+        inner.count = mid;
+        return right;
+    }
+
+    // O(fanOut * log_fanOut(n)), returns false if key isn't in the tree
+    public boolean delete(double key) {
+        if (root == null || !delete(root, key)) return false;
+
+        size--;
+        if (root instanceof Inner inner && inner.count == 0) {
+            // The root's last two children merged, shrink the tree by one level
+            root = inner.children[0];
+        }
+        else if (size == 0) {
+            root = firstLeaf = null;
+        }
+        return true;
+    }
+
+    private boolean delete(Node node, double key) {
+        if (node instanceof Leaf leaf) {
+            int i = lowerBound(leaf, key);
+            if (i == leaf.count || Double.compare(leaf.keys[i], key) != 0) return false;
+
+            System.arraycopy(leaf.keys, i + 1, leaf.keys, i, leaf.count - i - 1);
+            leaf.count--;
+            return true;
+        }
+
+        Inner inner = (Inner) node;
+        int i = upperBound(inner, key);
+        if (!delete(inner.children[i], key)) return false;
+
+        if (inner.children[i].count < minKeys) fixUnderflow(inner, i);
+        return true;
+    }
+
+    // Refills child i of parent by borrowing a key from a sibling that can spare
+    // one, or merges it with a sibling otherwise
+    private void fixUnderflow(Inner parent, int i) {
+        Node left = i > 0 ? parent.children[i - 1] : null;
+        Node right = i < parent.count ? parent.children[i + 1] : null;
+
+        if (left != null && left.count > minKeys) borrowFromLeft(parent, i);
+        else if (right != null && right.count > minKeys) borrowFromRight(parent, i);
+        else if (left != null) merge(parent, i - 1);
+        else merge(parent, i);
+    }
+
+    private void borrowFromLeft(Inner parent, int i) {
+        Node child = parent.children[i];
+        Node left = parent.children[i - 1];
+        System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+
+        if (child instanceof Inner innerChild) {
+            // Rotate through the parent: its separator comes down, left's last key goes up
+            Inner innerLeft = (Inner) left;
+            System.arraycopy(innerChild.children, 0, innerChild.children, 1, innerChild.count + 1);
+            innerChild.children[0] = innerLeft.children[innerLeft.count];
+            innerLeft.children[innerLeft.count] = null;
+            child.keys[0] = parent.keys[i - 1];
+            parent.keys[i - 1] = left.keys[left.count - 1];
+        }
+        else {
+            child.keys[0] = left.keys[left.count - 1];
+            parent.keys[i - 1] = child.keys[0];
+        }
+
+        child.count++;
+        left.count--;
+    }
+
+    private void borrowFromRight(Inner parent, int i) {
+        Node child = parent.children[i];
+        Node right = parent.children[i + 1];
+
+        if (child instanceof Inner innerChild) {
+            Inner innerRight = (Inner) right;
+            child.keys[child.count] = parent.keys[i];
+            innerChild.children[child.count + 1] = innerRight.children[0];
+            parent.keys[i] = right.keys[0];
+            System.arraycopy(innerRight.children, 1, innerRight.children, 0, innerRight.count);
+            innerRight.children[innerRight.count] = null;
+        }
+        else {
+            child.keys[child.count] = right.keys[0];
+            parent.keys[i] = right.keys[1];
+        }
+
+        System.arraycopy(right.keys, 1, right.keys, 0, right.count - 1);
+        child.count++;
+        right.count--;
+    }
+
+    // Appends child j + 1 of parent to child j and drops it along with their separator
+    private void merge(Inner parent, int j) {
+        Node left = parent.children[j];
+        Node right = parent.children[j + 1];
+
+        if (left instanceof Inner innerLeft) {
+            Inner innerRight = (Inner) right;
+            left.keys[left.count++] = parent.keys[j];
+            System.arraycopy(innerRight.children, 0, innerLeft.children, left.count, right.count + 1);
+        }
+        else {
+            Leaf leafLeft = (Leaf) left;
+            Leaf leafRight = (Leaf) right;
+            leafLeft.next = leafRight.next;
+            if (leafRight.next != null) leafRight.next.prev = leafLeft;
+        }
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+        left.count += right.count;
+
+        System.arraycopy(parent.keys, j + 1, parent.keys, j, parent.count - j - 1);
+        System.arraycopy(parent.children, j + 2, parent.children, j + 1, parent.count - j - 1);
+        parent.children[parent.count] = null;
+        parent.count--;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new LeafIterator(firstLeaf, 0, Double.POSITIVE_INFINITY, true);
+    }
+
+    // Keys in [lo, hi] in order. Seeks to lo in O(log(n)), then walks the leaf chain
+    public PrimitiveIterator.OfDouble rangeIterator(double lo, double hi) {
+        if (isEmpty()) {
+            return new LeafIterator(null, 0, hi, false);
+        }
+
+        Leaf leaf = findLeaf(lo);
+        return new LeafIterator(leaf, lowerBound(leaf, lo), hi, false);
+    }
+
+    // Walks the leaf chain from a given position, stopping after hi
+    private static class LeafIterator implements PrimitiveIterator.OfDouble {
+        private Leaf leaf;
+        private int index;
+        private final double hi;
+        private final boolean unbounded;
+
+        LeafIterator(Leaf leaf, int index, double hi, boolean unbounded) {
+            this.leaf = leaf;
+            this.index = index;
+            this.hi = hi;
+            this.unbounded = unbounded;
+            skipExhaustedLeaves();
+        }
+
+        private void skipExhaustedLeaves() {
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (unbounded || Double.compare(leaf.keys[index], hi) <= 0);
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            double key = leaf.keys[index++];
+            skipExhaustedLeaves();
+            return key;
+        }
+    }
+}
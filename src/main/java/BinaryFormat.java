@@ -0,0 +1,177 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Buffered primitive encoding over NIO channels, shared by the writeTo/readFrom
+// methods of the collections. Values go through one large heap buffer, so the
+// channel sees few big writes and reads instead of one per value. The buffer is
+// garbage collected like any array, so repeated saves don't hold on to native
+// memory the way direct buffers do until a GC.
+//
+// Fixed-width values are in native byte order like MappedDynamicArray, each
+// format starts with a magic int so data written with the other byte order is
+// rejected rather than misread. Varints are LEB128, 7 bits per byte, low
+// bits first.
+//
+// Every format records how many bytes it takes, so a Reader never pulls bytes
+// past the end of its structure out of the channel and several structures can
+// be written to and read back from one channel in turn.
+final class BinaryFormat {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private BinaryFormat() {
+    }
+
+    // Bytes putVarLong takes for value
+    static int varLongSize(long value) {
+        return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private static ByteBuffer allocate(long minCapacity) {
+        if (minCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Element is too large to buffer");
+        }
+        return ByteBuffer.allocate((int) Math.max(BUFFER_SIZE, minCapacity)).order(ByteOrder.nativeOrder());
+    }
+
+    static final class Writer {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+        private LayoutScratch scratch;   // created by the first put(ElementLayout, T)
+
+        // elementSize is the largest single value that will be written
+        Writer(WritableByteChannel channel, long elementSize) {
+            this.channel = channel;
+            this.buffer = allocate(elementSize);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        // value is treated as unsigned, at most 10 bytes
+        void putVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        <T> void put(ElementLayout<T> layout, T value) throws IOException {
+            int size = (int) layout.byteSize();
+            ensure(size);
+            if (scratch == null) scratch = new LayoutScratch(size);
+            scratch.write(layout, value, buffer);
+        }
+
+        // Writes out everything buffered, call once after the last value
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+        private LayoutScratch scratch;   // created by the first get(ElementLayout)
+        private long unread = 0;   // bytes of the structure still in the channel, see expect()
+
+        Reader(ReadableByteChannel channel, long elementSize) {
+            this.channel = channel;
+            this.buffer = allocate(elementSize);
+            buffer.limit(0);
+        }
+
+        // Declares that the structure has bytes more bytes after what has been
+        // read so far. Until then the reader takes exactly the bytes asked for,
+        // afterwards it reads ahead in big chunks but never past those bytes
+        void expect(long bytes) {
+            unread = Math.max(0, bytes - buffer.remaining());
+        }
+
+        // Reads from the channel until at least bytes are buffered
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+
+            buffer.compact();
+            int buffered = buffer.position();
+            long readAhead = Math.min(unread, buffer.capacity() - buffered);
+            buffer.limit((int) Math.max(bytes, buffered + readAhead));
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of stream");
+                }
+            }
+            unread = Math.max(0, unread - (buffer.position() - buffered));
+            buffer.flip();
+        }
+
+        int getInt() throws IOException {
+            ensure(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long getLong() throws IOException {
+            ensure(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        double getDouble() throws IOException {
+            ensure(Double.BYTES);
+            return buffer.getDouble();
+        }
+
+        byte getByte() throws IOException {
+            ensure(1);
+            return buffer.get();
+        }
+
+        long getVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = getByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        <T> T get(ElementLayout<T> layout) throws IOException {
+            int size = (int) layout.byteSize();
+            ensure(size);
+            if (scratch == null) scratch = new LayoutScratch(size);
+            return scratch.read(layout, buffer);
+        }
+    }
+}
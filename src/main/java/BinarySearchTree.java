@@ -1,14 +1,24 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Stack;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings("unchecked")
 public class BinarySearchTree implements Iterable<Double>{
     private Node root;
     private int size;
+    private int modCount = 0;   // bumped by every insert, delete and rebuild, iterators use it to fail fast
 
     class Node {
         Double data;
+        int count = 1;   // number of nodes in the subtree rooted here
         Node parent = null;
         Node left = null;
         Node right = null;
@@ -30,6 +40,188 @@ public class BinarySearchTree implements Iterable<Double>{
         insert(data);
     }
     
+    // Builds a perfectly balanced tree from keys in ascending order in O(n),
+    // instead of the O(n^2) chain repeated inserts would give. Equal neighbours
+    // are kept once, keys out of order throw
+    public static BinarySearchTree fromSorted(double[] keys) {
+        if(keys == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        int length = 0;
+        double[] unique = new double[keys.length];
+        for(double key : keys) {
+            if(length > 0) {
+                int cmp = Double.compare(key, unique[length - 1]);
+                if(cmp < 0) {
+                    throw new IllegalArgumentException("Keys are not in ascending order");
+                }
+                if(cmp == 0) {
+                    continue;
+                }
+            }
+            unique[length++] = key;
+        }
+        
+        BinarySearchTree tree = new BinarySearchTree();
+        tree.root = tree.buildBalanced(unique, 0, length, null);
+        tree.size = length;
+        return tree;
+    }
+    
+    public static BinarySearchTree fromSorted(Iterable<Double> keys) {
+        if(keys == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        DoubleDynamicArray buffer = new DoubleDynamicArray(16);
+        for(Double key : keys) {
+            if(key == null) {
+                throw new IllegalArgumentException("Can't insert NULL value");
+            }
+            buffer.push(key);
+        }
+        return fromSorted(buffer.toArray());
+    }
+    
+    // Flattens the tree in order and rebuilds it perfectly balanced, O(n)
+    public void rebalance() {
+        double[] keys = new double[this.size];
+        int i = 0;
+        for(Double key : this) {
+            keys[i++] = key;
+        }
+        this.root = buildBalanced(keys, 0, keys.length, null);
+        this.modCount++;
+    }
+    
+    // Binary format, see BinaryFormat:
+    //   int     magic
+    //   byte    encoding
+    //   varint  number of keys
+    //   varint  bytes taken by the keys
+    //   keys in ascending order, so loading bulk-builds the tree in O(n)
+    //
+    // When every key is a whole number they are written as varint gaps between
+    // consecutive keys, the first one zigzag encoded, which takes a byte or two
+    // per key for dense ids and timestamps. Otherwise each key takes 8 bytes.
+    private static final int MAGIC = 0x42535431;   // "BST1"
+    private static final byte RAW = 0;
+    private static final byte DELTA_VARINT = 1;
+    
+    // Streams the keys to channel in order, O(n)
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        // First pass picks the encoding and sizes the varint keys
+        boolean integral = true;
+        long varintBytes = 0;
+        long prev = 0;
+        boolean first = true;
+        for(Double key : this) {
+            if(!isIntegral(key)) {
+                integral = false;
+                break;
+            }
+            long value = key.longValue();
+            varintBytes += BinaryFormat.varLongSize(encodeDelta(value, prev, first));
+            prev = value;
+            first = false;
+        }
+        
+        BinaryFormat.Writer writer = new BinaryFormat.Writer(channel, Double.BYTES);
+        writer.putInt(MAGIC);
+        writer.putByte(integral ? DELTA_VARINT : RAW);
+        writer.putVarLong(this.size);
+        writer.putVarLong(integral ? varintBytes : (long) this.size * Double.BYTES);
+        
+        if(integral) {
+            prev = 0;
+            first = true;
+            for(Double key : this) {
+                long value = key.longValue();
+                writer.putVarLong(encodeDelta(value, prev, first));
+                prev = value;
+                first = false;
+            }
+        }
+        else {
+            for(Double key : this) {
+                writer.putDouble(key);
+            }
+        }
+        writer.flush();
+    }
+    
+    // The first key is zigzag encoded so small negative keys stay short, the
+    // rest are gaps to the key before, which are positive in ascending order
+    private static long encodeDelta(long value, long prev, boolean first) {
+        return first ? (value << 1) ^ (value >> 63) : value - prev;
+    }
+    
+    // Whole number that survives a round trip through long, -0.0 doesn't
+    private static boolean isIntegral(double key) {
+        return key >= -0x1p63 && key < 0x1p63
+                && Double.doubleToRawLongBits((double) (long) key) == Double.doubleToRawLongBits(key);
+    }
+    
+    // Reads a tree written by writeTo and builds it balanced, O(n)
+    public static BinarySearchTree readFrom(ReadableByteChannel channel) throws IOException {
+        BinaryFormat.Reader reader = new BinaryFormat.Reader(channel, Double.BYTES);
+        if(reader.getInt() != MAGIC) {
+            throw new IOException("Not a BinarySearchTree or written with a different byte order");
+        }
+        byte encoding = reader.getByte();
+        long count = reader.getVarLong();
+        if(count < 0 || count > GrowthPolicy.MAX_CAPACITY) {
+            throw new IOException("Malformed key count " + count);
+        }
+        long bytes = reader.getVarLong();
+        if(bytes < 0) {
+            throw new IOException("Malformed key size " + bytes);
+        }
+        reader.expect(bytes);
+        
+        double[] keys = new double[(int) count];
+        if(encoding == DELTA_VARINT) {
+            long value = 0;
+            for(int i = 0; i < keys.length; i++) {
+                long raw = reader.getVarLong();
+                value = i == 0 ? (raw >>> 1) ^ -(raw & 1) : value + raw;
+                keys[i] = value;
+            }
+        }
+        else if(encoding == RAW) {
+            for(int i = 0; i < keys.length; i++) {
+                keys[i] = reader.getDouble();
+            }
+        }
+        else {
+            throw new IOException("Unknown encoding " + encoding);
+        }
+        
+        try {
+            return fromSorted(keys);
+        }
+        catch(IllegalArgumentException e) {
+            throw new IOException("Keys are not in ascending order", e);
+        }
+    }
+    
+    // Makes the middle of keys[from, to) the subtree root and recurses on both halves,
+    // so the depth is O(log(n))
+    private Node buildBalanced(double[] keys, int from, int to, Node parent) {
+        if(from >= to) {
+            return null;
+        }
+        
+        int mid = (from + to) >>> 1;
+        Node node = new Node(keys[mid]);
+        node.parent = parent;
+        node.count = to - from;
+        node.left = buildBalanced(keys, from, mid, node);
+        node.right = buildBalanced(keys, mid + 1, to, node);
+        return node;
+    }
+    
     public boolean isEmpty() {
         return this.size == 0;
     }
@@ -65,7 +257,7 @@ public class BinarySearchTree implements Iterable<Double>{
 
     private Node getMaxValRec(Node node) {
         if(node.right != null) {
-            return getMinValRec(node.right);
+            return getMaxValRec(node.right);
         }
         else {
             return node;
@@ -93,11 +285,12 @@ public class BinarySearchTree implements Iterable<Double>{
             throw new IllegalArgumentException("Can't search for NULL value");
         }
 
-        return searchRec(data, root) != null;
+        return !isEmpty() && searchRec(data, root) != null;
     }
     
+    // Keys are ordered by Double.compare, which agrees with Double.equals
     private Node searchRec(Double data, Node node) {
-        if(data < node.data) {
+        if(Double.compare(data, node.data) < 0) {
             if(node.left == null) {
                 return null;
             }
@@ -131,22 +324,25 @@ public class BinarySearchTree implements Iterable<Double>{
             if(node == null) {
                 return false;
             }
+            updateCounts(node.parent, 1);
         }
         
         this.size++;
+        this.modCount++;
         return true;
     }
     
+    // Returns the new node, or null if data is already in the tree
     private Node insertRec(Double data, Node node) {
-        if(data < node.data) {
+        if(Double.compare(data, node.data) < 0) {
             if(node.left == null) {
                 node.left = new Node(data);
                 node.left.parent = node;
+                return node.left;
             }
             else {
-                insertRec(data, node.left);
+                return insertRec(data, node.left);
             }
-            return node.left;
         }
         else if(data.equals(node.data)) {
             return null;
@@ -155,11 +351,19 @@ public class BinarySearchTree implements Iterable<Double>{
             if(node.right == null) {
                 node.right = new Node(data);
                 node.right.parent = node;
+                return node.right;
             }
             else {
-                insertRec(data, node.right);
+                return insertRec(data, node.right);
             }
-            return node.right;
+        }
+    }
+    
+    // Adds delta to the subtree sizes from node up to the root, O(h)
+    private void updateCounts(Node node, int delta) {
+        while(node != null) {
+            node.count += delta;
+            node = node.parent;
         }
     }
     
@@ -167,112 +371,401 @@ public class BinarySearchTree implements Iterable<Double>{
         if(data == null) {
             throw new IllegalArgumentException("Can't accept NULL value as input");
         }
+        if(isEmpty()) {
+            return false;
+        }
 
         Node node = searchRec(data, root);
         if(node == null) {
             return false;
         }
-        Node parent = node.parent;
 
-        if(node.left == null && node.right == null) {
-            if(parent.left == node) {
-                parent.left = null;
+        deleteNode(node);
+        return true;
+    }
+
+    private void deleteNode(Node node) {
+        if(node.left != null && node.right != null) {
+            // Move the in-order successor's value up and unlink the successor instead,
+            // it has no left child so it falls into the single child case below
+            Node rightChildMinValNode = getMinValRec(node.right);
+            node.data = rightChildMinValNode.data;
+            node = rightChildMinValNode;
+        }
+
+        Node child = node.left != null ? node.left : node.right;
+        replaceChild(node.parent, node, child);
+        updateCounts(node.parent, -1);
+        node.data = null;
+        node.parent = node.left = node.right = null;
+
+        this.size--;
+        this.modCount++;
+    }
+
+    // Puts child in place of node under parent, a null parent means node is the root
+    private void replaceChild(Node parent, Node node, Node child) {
+        if(child != null) {
+            child.parent = parent;
+        }
+
+        if(parent == null) {
+            this.root = child;
+        }
+        else if(parent.left == node) {
+            parent.left = child;
+        }
+        else {
+            parent.right = child;
+        }
+    }
+
+    private int count(Node node) {
+        return node == null ? 0 : node.count;
+    }
+    
+    // Greatest key <= data, or null if there is none, O(h)
+    public Double floor(Double data) {
+        Node node = floorNode(data, true);
+        return node == null ? null : node.data;
+    }
+    
+    // Greatest key < data, or null if there is none, O(h)
+    public Double lower(Double data) {
+        Node node = floorNode(data, false);
+        return node == null ? null : node.data;
+    }
+    
+    // Least key >= data, or null if there is none, O(h)
+    public Double ceiling(Double data) {
+        Node node = ceilingNode(data, true);
+        return node == null ? null : node.data;
+    }
+    
+    // Least key > data, or null if there is none, O(h)
+    public Double higher(Double data) {
+        Node node = ceilingNode(data, false);
+        return node == null ? null : node.data;
+    }
+    
+    private Node floorNode(Double data, boolean inclusive) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        Node best = null;
+        Node node = root;
+        while(node != null) {
+            int cmp = Double.compare(node.data, data);
+            if(cmp < 0 || (inclusive && cmp == 0)) {
+                best = node;
+                node = node.right;
             }
             else {
-                parent.right = null;
-            }
-            node.data = null;
-            
-            this.size--;
-            if(this.size == 0) {
-                this.root = null;
+                node = node.left;
             }
-            return true;
         }
-        else if(node.left != null && node.right == null) {
-            if(parent.left == node) {
-                parent.left = node.left;
+        return best;
+    }
+    
+    private Node ceilingNode(Double data, boolean inclusive) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        Node best = null;
+        Node node = root;
+        while(node != null) {
+            int cmp = Double.compare(node.data, data);
+            if(cmp > 0 || (inclusive && cmp == 0)) {
+                best = node;
+                node = node.left;
             }
             else {
-                parent.right = node.left;
+                node = node.right;
             }
-            node.data = null;
-            
-            this.size--;
-            if(this.size == 0) {
-                this.root = null;
-            }
-            return true;
         }
-        else if(node.left == null && node.right != null) {
-            if(parent.left == node) {
-                parent.left = node.right;
+        return best;
+    }
+    
+    // Number of keys < data, O(h)
+    public int rank(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        int rank = 0;
+        Node node = root;
+        while(node != null) {
+            int cmp = Double.compare(data, node.data);
+            if(cmp <= 0) {
+                node = node.left;
             }
             else {
-                parent.right = node.right;
+                rank += count(node.left) + 1;
+                node = node.right;
             }
-            node.data = null;
-            
-            this.size--;
-            if(this.size == 0) {
-                this.root = null;
-            }
-            return true;
         }
-        else {
-            Node rightChildMinValNode = getMinValRec(node.right);
-            Node rightChildMinValNodeParent = rightChildMinValNode.parent;
-            node.data = rightChildMinValNode.data;
-            
-            if(rightChildMinValNodeParent.left == rightChildMinValNode) {
-                rightChildMinValNodeParent.left = null;
+        return rank;
+    }
+    
+    // The key with k keys below it, select(0) being the minimum, O(h)
+    public Double select(int k) {
+        if(k < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if(k >= this.size) {
+            throw new NoSuchElementException("No element exists at this index");
+        }
+        
+        return selectNode(k).data;
+    }
+    
+    private Node selectNode(int k) {
+        Node node = root;
+        while(true) {
+            int leftCount = count(node.left);
+            if(k < leftCount) {
+                node = node.left;
+            }
+            else if(k == leftCount) {
+                return node;
             }
             else {
-                rightChildMinValNodeParent.right = null;
+                k -= leftCount + 1;
+                node = node.right;
+            }
+        }
+    }
+    
+    // Number of keys in [lo, hi], O(h)
+    public int rangeCount(Double lo, Double hi) {
+        if(lo == null || hi == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        if(Double.compare(lo, hi) > 0) {
+            return 0;
+        }
+        
+        int count = rank(hi) - rank(lo);
+        return search(hi) ? count + 1 : count;
+    }
+    
+    // Previous node in order, the mirror image of successor, O(h)
+    private Node predecessor(Node node) {
+        if(node.left != null) {
+            return getMaxValRec(node.left);
+        }
+        
+        Node child = node;
+        Node parent = node.parent;
+        while(parent != null && parent.left == child) {
+            child = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+    
+    // Next node in order, walking up through parent links if there is no right subtree, O(h)
+    private Node successor(Node node) {
+        if(node.right != null) {
+            return getMinValRec(node.right);
+        }
+        
+        Node child = node;
+        Node parent = node.parent;
+        while(parent != null && parent.right == child) {
+            child = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+    
+    // Keys in [lo, hi] in order. Seeks straight to lo in O(h), then each step is
+    // amortized O(1)
+    public Iterator<Double> rangeIterator(Double lo, Double hi) {
+        if(hi == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+        
+        Node first = ceilingNode(lo, true);
+        return new Iterator<Double>() {
+            Node next = first;
+            int expectedModCount = modCount;
+            
+            @Override
+            public boolean hasNext() {
+                return next != null && Double.compare(next.data, hi) <= 0;
             }
-            rightChildMinValNode.data = null;
             
-            this.size--;
-            if(this.size == 0) {
-                this.root = null;
+            @Override
+            public Double next() {
+                if(modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if(!hasNext()) {
+                    throw new NoSuchElementException("No element exists on next index");
+                }
+                
+                Double res = next.data;
+                next = successor(next);
+                return res;
             }
-            return true;
-        }
+        };
     }
 
+    // Walks in order through parent links, so iterating needs no stack and
+    // allocates nothing. A full walk crosses every edge twice, O(n)
     @Override
     public Iterator<Double> iterator() {
-        return new BinarySearchTreeIterator(root);
+        return new BinarySearchTreeIterator(isEmpty() ? null : getMinValRec(root), false);
     }
     
+    // Largest key first
+    public Iterator<Double> descendingIterator() {
+        return new BinarySearchTreeIterator(isEmpty() ? null : getMaxValRec(root), true);
+    }
+    
+    // Fails fast: throws ConcurrentModificationException on the first next() after
+    // the tree is changed other than through the iterator, one field compare per key
     private class BinarySearchTreeIterator implements Iterator<Double> {
-        private Stack<Node> stack = new Stack<>();
+        private Node next;
+        private Node lastReturned = null;
+        private final boolean descending;
+        private int expectedModCount = modCount;
         
-        public BinarySearchTreeIterator(Node node) {
-            pushAllLeftChildren(node);
-        }
-        
-        private void pushAllLeftChildren(Node node) {
-            while(node != null) {
-                stack.push(node);
-                node = node.left;
-            }
+        public BinarySearchTreeIterator(Node first, boolean descending) {
+            this.next = first;
+            this.descending = descending;
         }
         
         @Override
         public boolean hasNext() {
-            return !stack.isEmpty();
+            return next != null;
         }
 
         @Override
         public Double next() {
-            Node curr = stack.pop();
-            Double res = curr.data;
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if(!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+            
+            lastReturned = next;
+            next = descending ? predecessor(next) : successor(next);
+            return lastReturned.data;
+        }
+        
+        // Removes the key last returned by next, O(h)
+        @Override
+        public void remove() {
+            if(lastReturned == null) {
+                throw new IllegalStateException("next() hasn't been called since the last remove()");
+            }
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            
+            // A node with two children takes its successor's key and the successor
+            // node is unlinked instead, so in ascending order the next key now
+            // lives in lastReturned
+            if(!descending && lastReturned.left != null && lastReturned.right != null) {
+                next = lastReturned;
+            }
+            deleteNode(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+    
+    // Hands every key to action in order without boxing or allocating. Not an
+    // overload of forEach, which would make forEach(x -> ...) ambiguous, O(n)
+    public void forEachDouble(DoubleConsumer action) {
+        if(isEmpty()) {
+            return;
+        }
+        
+        for(Node node = getMinValRec(root); node != null; node = successor(node)) {
+            action.accept(node.data);
+        }
+    }
+    
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+    
+    public DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+    
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new BinarySearchTreeSpliterator(isEmpty() ? null : getMinValRec(root), 0, this.size);
+    }
+    
+    // Covers the remaining keys starting at next, whose rank is index. Subtree
+    // sizes let trySplit find the middle key in O(h) and hand off the first half,
+    // so parallel streams split the tree into balanced ranges. The tree must not
+    // be modified while it is in use
+    private class BinarySearchTreeSpliterator implements Spliterator.OfDouble {
+        private Node next;
+        private int index;
+        private int remaining;
+        
+        BinarySearchTreeSpliterator(Node next, int index, int remaining) {
+            this.next = next;
+            this.index = index;
+            this.remaining = remaining;
+        }
+        
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if(remaining == 0) return false;
             
-            if(curr.right != null) {
-                pushAllLeftChildren(curr.right);
+            action.accept(next.data);
+            next = successor(next);
+            index++;
+            remaining--;
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            for(; remaining > 0; remaining--, index++) {
+                action.accept(next.data);
+                next = successor(next);
             }
-            return res;
+        }
+        
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int half = remaining >>> 1;
+            if(half == 0) return null;
+            
+            Spliterator.OfDouble prefix = new BinarySearchTreeSpliterator(next, index, half);
+            index += half;
+            remaining -= half;
+            next = selectNode(index);
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                    | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        
+        // Keys are in natural order
+        @Override
+        public Comparator<? super Double> getComparator() {
+            return null;
         }
     }
 }
@@ -0,0 +1,256 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// Ordered map on a binary search tree, so a key and its value are found with a
+// single descent. Keys are ordered by their natural ordering unless a comparator
+// is given. Like BinarySearchTree it doesn't rebalance, a lookup is O(h).
+// See DoubleBinarySearchTreeMap for double keys without boxing.
+public class BinarySearchTreeMap<K, V> {
+    private Node root;
+    private int size;
+    private final Comparator<? super K> comparator;
+
+    class Node {
+        K key;
+        V value;
+        Node parent = null;
+        Node left = null;
+        Node right = null;
+
+        public Node(K key, V value, Node parent) {
+            this.key = key;
+            this.value = value;
+            this.parent = parent;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    // Natural key ordering is a factory rather than a constructor, so only
+    // Comparable key types compile
+    public static <K extends Comparable<? super K>, V> BinarySearchTreeMap<K, V> create() {
+        return new BinarySearchTreeMap<>(Comparator.naturalOrder());
+    }
+
+    public BinarySearchTreeMap(Comparator<? super K> comparator) {
+        if(comparator == null) {
+            throw new IllegalArgumentException("Comparator can't be null");
+        }
+        this.comparator = comparator;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int getSize() {
+        return this.size;
+    }
+
+    public void clear() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    private Node getNode(K key) {
+        if(key == null) {
+            throw new IllegalArgumentException("Can't accept NULL key");
+        }
+
+        Node node = root;
+        while(node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if(cmp < 0) {
+                node = node.left;
+            }
+            else if(cmp > 0) {
+                node = node.right;
+            }
+            else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    // Value mapped to key, or null if there is none, O(h)
+    public V get(K key) {
+        Node node = getNode(key);
+        return node == null ? null : node.value;
+    }
+
+    public boolean containsKey(K key) {
+        return getNode(key) != null;
+    }
+
+    // Maps key to value, returns the value it replaced or null, O(h)
+    public V put(K key, V value) {
+        if(value == null) {
+            throw new IllegalArgumentException("Can't insert NULL value");
+        }
+
+        Node node = getOrAttach(key);
+        V old = node.value;
+        node.value = value;
+        return old;
+    }
+
+    // Returns the value mapped to key, mapping it to mappingFunction(key) first if
+    // there is none. Takes one descent where get followed by put would take two.
+    // Nothing is mapped if the function returns null or throws. The function must
+    // not modify this map, O(h)
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if(mappingFunction == null) {
+            throw new IllegalArgumentException("Mapping function can't be null");
+        }
+
+        Node node = getOrAttach(key);
+        if(node.value != null) {
+            return node.value;
+        }
+
+        // node was just attached as a leaf, so unlinking it leaves the tree as it was
+        V value;
+        try {
+            value = mappingFunction.apply(key);
+        }
+        catch(RuntimeException | Error e) {
+            unlink(node);
+            throw e;
+        }
+        if(value == null) {
+            unlink(node);
+            return null;
+        }
+        node.value = value;
+        return value;
+    }
+
+    // Finds the node for key, attaching one with a null value if there is none
+    private Node getOrAttach(K key) {
+        if(key == null) {
+            throw new IllegalArgumentException("Can't accept NULL key");
+        }
+        if(root == null) {
+            root = new Node(key, null, null);
+            this.size++;
+            return root;
+        }
+
+        Node node = root;
+        while(true) {
+            int cmp = comparator.compare(key, node.key);
+            if(cmp == 0) {
+                return node;
+            }
+
+            Node child = cmp < 0 ? node.left : node.right;
+            if(child == null) {
+                child = new Node(key, null, node);
+                if(cmp < 0) {
+                    node.left = child;
+                }
+                else {
+                    node.right = child;
+                }
+                this.size++;
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    // Removes the mapping for key, returns its value or null if there was none, O(h)
+    public V remove(K key) {
+        Node node = getNode(key);
+        if(node == null) {
+            return null;
+        }
+
+        V value = node.value;
+        unlink(node);
+        return value;
+    }
+
+    private void unlink(Node node) {
+        if(node.left != null && node.right != null) {
+            // Move the in-order successor's entry up and unlink the successor instead,
+            // it has no left child so it falls into the single child case below
+            Node successor = getMinNode(node.right);
+            node.key = successor.key;
+            node.value = successor.value;
+            node = successor;
+        }
+
+        Node child = node.left != null ? node.left : node.right;
+        if(child != null) {
+            child.parent = node.parent;
+        }
+        if(node.parent == null) {
+            this.root = child;
+        }
+        else if(node.parent.left == node) {
+            node.parent.left = child;
+        }
+        else {
+            node.parent.right = child;
+        }
+
+        node.key = null;
+        node.value = null;
+        node.parent = node.left = node.right = null;
+        this.size--;
+    }
+
+    private Node getMinNode(Node node) {
+        while(node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    public K firstKey() {
+        if(isEmpty()) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return getMinNode(root).key;
+    }
+
+    public K lastKey() {
+        if(isEmpty()) {
+            throw new NoSuchElementException("Map is empty");
+        }
+
+        Node node = root;
+        while(node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    // Hands every entry to action in key order, walking parent links, O(n)
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        if(isEmpty()) {
+            return;
+        }
+
+        Node node = getMinNode(root);
+        while(node != null) {
+            action.accept(node.key, node.value);
+            if(node.right != null) {
+                node = getMinNode(node.right);
+            }
+            else {
+                while(node.parent != null && node.parent.right == node) {
+                    node = node.parent;
+                }
+                node = node.parent;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Append only DynamicArray that many threads can push to at once without locking.
+//
+// push reserves a slot by atomically incrementing length and then publishes the
+// element into it with a release store, so producers never wait on each other.
+// Elements live in chunks that double in size, chunk k holding
+// firstChunkSize << k elements. Growing only adds a chunk and never copies or
+// moves an element, so readers never have to wait for a resize either.
+//
+// A slot is reserved before it is published, so size() can count elements whose
+// push hasn't finished yet. get() on such a slot throws NoSuchElementException.
+@SuppressWarnings("unchecked")
+public class ConcurrentDynamicArray<T> implements Iterable<T> {
+    private static final VarHandle LENGTH;
+    private static final VarHandle CHUNK = MethodHandles.arrayElementVarHandle(Object[][].class);
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            LENGTH = MethodHandles.lookup().findVarHandle(ConcurrentDynamicArray.class, "length", int.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[][] chunks;
+    private final int firstChunkBits;   // first chunk holds 1 << firstChunkBits elements
+    private final int maxLength;
+    private volatile int length = 0;   // slots reserved so far
+
+    public ConcurrentDynamicArray(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity should be at most 2^30");
+        }
+
+        // Round the first chunk up to a power of two so index math is just bit twiddling
+        firstChunkBits = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+        maxLength = Integer.MAX_VALUE - (1 << firstChunkBits) + 1;
+        chunks = new Object[31 - firstChunkBits][];
+        chunks[0] = new Object[1 << firstChunkBits];
+    }
+
+    // Number of reserved slots, including ones still being published
+    public int size() {
+        return length;
+    }
+
+    // Shifting every index by the first chunk's size makes the position of the
+    // highest set bit pick the chunk and the remaining bits the offset inside it
+    private int chunkIndex(int i) {
+        int pos = i + (1 << firstChunkBits);
+        return 31 - Integer.numberOfLeadingZeros(pos) - firstChunkBits;
+    }
+
+    private int chunkOffset(int i) {
+        int pos = i + (1 << firstChunkBits);
+        return pos - Integer.highestOneBit(pos);
+    }
+
+    // Returns the chunk, installing it if no other thread has yet. Losing
+    // the race just throws away the freshly allocated array.
+    private Object[] chunk(int k) {
+        Object[] chunk = (Object[]) CHUNK.getAcquire(chunks, k);
+        if (chunk != null) return chunk;
+
+        Object[] newChunk = new Object[1 << (firstChunkBits + k)];
+        Object[] witness = (Object[]) CHUNK.compareAndExchangeRelease(chunks, k, null, newChunk);
+        return witness == null ? newChunk : witness;
+    }
+
+    // Wait-free apart from a possible chunk allocation, O(1)
+    public void push(T n) {
+        if (n == null) {
+            throw new IllegalArgumentException("Can't push NULL value");
+        }
+
+        int index = (int) LENGTH.getAndAdd(this, 1);
+        if (index < 0 || index >= maxLength) {
+            throw new IllegalStateException("Concurrent dynamic array is full");
+        }
+
+        SLOT.setRelease(chunk(chunkIndex(index)), chunkOffset(index), n);
+    }
+
+    // Returns null if the slot hasn't been published yet
+    private T published(int i) {
+        Object[] chunk = (Object[]) CHUNK.getAcquire(chunks, chunkIndex(i));
+        return chunk == null ? null : (T) SLOT.getAcquire(chunk, chunkOffset(i));
+    }
+
+    // Wait-free, O(1)
+    public T get(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        T element = published(i);
+        if (element == null) {
+            throw new NoSuchElementException("Element at this index is not published yet");
+        }
+        return element;
+    }
+
+    public void set(int i, T n) {
+        if (n == null) {
+            throw new IllegalArgumentException("Can't set NULL value");
+        }
+
+        get(i);
+        SLOT.setRelease(chunks[chunkIndex(i)], chunkOffset(i), n);
+    }
+
+    // Weakly consistent: sees the slots reserved when it was created and
+    // skips the ones that weren't published by the time it reaches them
+    @Override
+    public Iterator<T> iterator() {
+        return new ConcurrentDynamicArrayIterator(length);
+    }
+
+    private class ConcurrentDynamicArrayIterator implements Iterator<T> {
+        private final int fence;
+        private int currentIndex = 0;
+        private T nextElement;
+
+        ConcurrentDynamicArrayIterator(int fence) {
+            this.fence = Math.min(fence, maxLength);
+            advance();
+        }
+
+        private void advance() {
+            nextElement = null;
+            while (nextElement == null && currentIndex < fence) {
+                nextElement = published(currentIndex++);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextElement != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            T element = nextElement;
+            advance();
+            return element;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread safe priority queue made of k independent PriorityQueue shards, each
+// behind its own lock (a MultiQueue).
+//
+// add puts the element into a random shard that it can lock without waiting.
+// In relaxed mode poll looks at the tops of two random shards and removes the
+// better one, so it returns an element close to, but not always exactly, the
+// minimum, and threads rarely contend on the same lock. In strict mode poll
+// locks every shard and removes the exact minimum, trading scalability for
+// exact ordering.
+public class ConcurrentPriorityQueue<T> {
+    private final PriorityQueue<T>[] shards;
+    private final ReentrantLock[] locks;
+    private final AtomicReferenceArray<T> tops;   // top of each shard, read without locking
+    private final Comparator<? super T> comparator;
+    private final boolean strict;
+    private final LongAdder size = new LongAdder();
+
+    // Relaxed queue in natural order with two shards per processor. A factory
+    // rather than a constructor, so only Comparable element types compile
+    public static <T extends Comparable<? super T>> ConcurrentPriorityQueue<T> create() {
+        return new ConcurrentPriorityQueue<>(2 * Runtime.getRuntime().availableProcessors(), Comparator.naturalOrder(), false);
+    }
+
+    public ConcurrentPriorityQueue(int shardCount, Comparator<? super T> comparator, boolean strict) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count should be more than 0");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator can't be null");
+        }
+
+        this.comparator = comparator;
+        this.strict = strict;
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        PriorityQueue<T>[] newShards = new PriorityQueue[shardCount];   // no generic array creation
+        shards = newShards;
+        locks = new ReentrantLock[shardCount];
+        tops = new AtomicReferenceArray<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new PriorityQueue<>(comparator);
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // Exact when no other thread is modifying the queue
+    public int getSize() {
+        return size.intValue();
+    }
+
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    // Adds an element to a random shard, O(log(n/k))
+    public void add(T obj) {
+        if (obj == null) throw new IllegalArgumentException("Can't add null value");
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(shards.length);
+        // Only block if every shard tried so far was taken
+        for (int attempt = 0; !locks[index].tryLock(); attempt++) {
+            if (attempt == shards.length) {
+                locks[index].lock();
+                break;
+            }
+            index = random.nextInt(shards.length);
+        }
+
+        try {
+            shards[index].add(obj);
+            tops.set(index, shards[index].peek());
+            size.increment();
+        }
+        finally {
+            locks[index].unlock();
+        }
+    }
+
+    // Removes an element from the front of the queue, or returns null if it is empty
+    public T poll() {
+        return strict ? pollStrict() : pollRelaxed();
+    }
+
+    // Removes the exact minimum by locking every shard in order, O(k + log(n/k))
+    private T pollStrict() {
+        for (ReentrantLock lock : locks) lock.lock();
+
+        try {
+            int best = -1;
+            for (int i = 0; i < shards.length; i++) {
+                if (!shards[i].isEmpty() && (best == -1 || isBetter(shards[i].peek(), shards[best].peek()))) {
+                    best = i;
+                }
+            }
+
+            return best == -1 ? null : pollShard(best);
+        }
+        finally {
+            for (ReentrantLock lock : locks) lock.unlock();
+        }
+    }
+
+    // Removes the better top of two random shards, O(log(n/k))
+    private T pollRelaxed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int i = random.nextInt(shards.length);
+            int j = random.nextInt(shards.length);
+            T topI = tops.get(i);
+            T topJ = tops.get(j);
+
+            int index;
+            if (topI == null && topJ == null) {
+                // Both samples empty, fall back to any shard that isn't. The scan
+                // isn't atomic, a shard seen empty may be refilled while a later
+                // one drains, so only the all-locks path may report empty
+                index = anyNonEmptyShard();
+                if (index == -1) return pollStrict();
+            }
+            else if (topJ == null || (topI != null && isBetter(topI, topJ))) {
+                index = i;
+            }
+            else {
+                index = j;
+            }
+
+            if (!locks[index].tryLock()) continue;
+            try {
+                // The shard may have been drained since its top was read
+                if (!shards[index].isEmpty()) return pollShard(index);
+            }
+            finally {
+                locks[index].unlock();
+            }
+        }
+    }
+
+    private int anyNonEmptyShard() {
+        for (int i = 0; i < shards.length; i++) {
+            if (tops.get(i) != null) return i;
+        }
+        return -1;
+    }
+
+    // Caller must hold the shard's lock
+    private T pollShard(int index) {
+        T removed = shards[index].poll();
+        tops.set(index, shards[index].peek());
+        size.decrement();
+        return removed;
+    }
+
+    private boolean isBetter(T obj1, T obj2) {
+        return comparator.compare(obj1, obj2) < 0;
+    }
+}
@@ -0,0 +1,278 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Ordered set of doubles with the same API as BinarySearchTree that many threads
+// can use at once without locking.
+//
+// It is a lock-free skip list (Herlihy and Shavit). Every level is a sorted
+// linked list and each level is an express lane over the one below it, so
+// search, insert and delete are O(log(n)) expected. Reads only follow links and
+// never write, so readers scale with the number of threads.
+//
+// A node is deleted by marking its links, top level first, which makes the
+// level 0 mark the moment it leaves the set. A link is marked by swapping the
+// successor for a Marked wrapper around it. That wrapper is the only allocation
+// a delete makes, whereas AtomicMarkableReference would allocate on every CAS.
+// Marked nodes are unlinked later by whichever insert or delete passes them.
+//
+// Iteration is weakly consistent like java.util.concurrent: it never throws
+// ConcurrentModificationException, sees every key present for the whole
+// iteration, and may or may not see keys added or removed meanwhile.
+public class ConcurrentSkipList implements Iterable<Double> {
+    private static final int MAX_LEVEL = 32;
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private static class Node {
+        final double data;
+        final Object[] next;   // successor Node, null or Marked per level
+
+        Node(double data, int height) {
+            this.data = data;
+            this.next = new Object[height];
+        }
+
+        Object next(int level) {
+            return NEXT.getAcquire(next, level);
+        }
+
+        boolean casNext(int level, Object expected, Object value) {
+            return NEXT.compareAndSet(next, level, expected, value);
+        }
+
+        boolean isMarked() {
+            return next(0) instanceof Marked;
+        }
+    }
+
+    // Stands in place of the successor of a deleted node
+    private record Marked(Node succ) {
+    }
+
+    // Never compared against, so its key doesn't matter
+    private final Node head = new Node(Double.NEGATIVE_INFINITY, MAX_LEVEL);
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentSkipList() {
+    }
+
+    // Number of keys, exact only while no update is running
+    public int getSize() {
+        return size.intValue();
+    }
+
+    public boolean isEmpty() {
+        return successor(head) == null;
+    }
+
+    private static Node unmark(Object link) {
+        return link instanceof Marked marked ? marked.succ() : (Node) link;
+    }
+
+    // Each level gets a node with probability 1/2 of the level below
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return Integer.numberOfTrailingZeros(bits) + 1;
+    }
+
+    // Fills preds and succs with the nodes around data on every level and unlinks
+    // marked nodes on the way, restarting if another thread changes a link first.
+    // Returns whether data is in the list, O(log(n)) expected
+    private boolean find(double data, Node[] preds, Node[] succs) {
+        retry:
+        while(true) {
+            Node pred = head;
+            Node curr = null;
+            for(int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = unmark(pred.next(level));
+                while(curr != null) {
+                    Object succ = curr.next(level);
+                    while(succ instanceof Marked marked) {
+                        if(!pred.casNext(level, curr, marked.succ())) {
+                            continue retry;
+                        }
+                        curr = marked.succ();
+                        if(curr == null) {
+                            break;
+                        }
+                        succ = curr.next(level);
+                    }
+                    if(curr == null || Double.compare(curr.data, data) >= 0) {
+                        break;
+                    }
+                    pred = curr;
+                    curr = (Node) succ;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && Double.compare(curr.data, data) == 0;
+        }
+    }
+
+    // Wait-free, doesn't help unlink marked nodes, O(log(n)) expected
+    public boolean search(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't search for NULL value");
+        }
+
+        Node node = ceilingNode(data);
+        return node != null && Double.compare(node.data, data) == 0;
+    }
+
+    // First unmarked node with a key >= data
+    private Node ceilingNode(double data) {
+        Node pred = head;
+        Node curr = null;
+        for(int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = unmark(pred.next(level));
+            while(curr != null && Double.compare(curr.data, data) < 0) {
+                pred = curr;
+                curr = unmark(curr.next(level));
+            }
+        }
+        while(curr != null && curr.isMarked()) {
+            curr = unmark(curr.next(0));
+        }
+        return curr;
+    }
+
+    public boolean insert(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't insert NULL value");
+        }
+
+        int height = randomHeight();
+        Node[] preds = new Node[MAX_LEVEL];
+        Node[] succs = new Node[MAX_LEVEL];
+        while(true) {
+            if(find(data, preds, succs)) {
+                return false;
+            }
+
+            Node node = new Node(data, height);
+            for(int level = 0; level < height; level++) {
+                node.next[level] = succs[level];
+            }
+            // Linking level 0 is the moment the key joins the set, the CAS publishes node.next
+            if(!preds[0].casNext(0, succs[0], node)) {
+                continue;
+            }
+            size.increment();
+
+            for(int level = 1; level < height; level++) {
+                while(!preds[level].casNext(level, succs[level], node)) {
+                    find(data, preds, succs);
+                    // Stop building if a delete has already started marking node
+                    Object expected = node.next(level);
+                    if(expected instanceof Marked || !node.casNext(level, expected, succs[level])) {
+                        return true;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    public boolean delete(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+
+        Node[] preds = new Node[MAX_LEVEL];
+        Node[] succs = new Node[MAX_LEVEL];
+        if(!find(data, preds, succs)) {
+            return false;
+        }
+
+        Node node = succs[0];
+        for(int level = node.next.length - 1; level > 0; level--) {
+            Object succ = node.next(level);
+            while(!(succ instanceof Marked) && !node.casNext(level, succ, new Marked((Node) succ))) {
+                succ = node.next(level);
+            }
+        }
+
+        // Whoever marks level 0 deleted the key
+        Object succ = node.next(0);
+        while(true) {
+            if(succ instanceof Marked) {
+                return false;
+            }
+            if(node.casNext(0, succ, new Marked((Node) succ))) {
+                size.decrement();
+                find(data, preds, succs);   // unlink it
+                return true;
+            }
+            succ = node.next(0);
+        }
+    }
+
+    // Next unmarked node on level 0
+    private Node successor(Node node) {
+        Node next = unmark(node.next(0));
+        while(next != null && next.isMarked()) {
+            next = unmark(next.next(0));
+        }
+        return next;
+    }
+
+    // O(1)
+    public Double getMinVal() {
+        Node min = successor(head);
+        if(min == null) {
+            throw new RuntimeException("Tree is empty");
+        }
+        return min.data;
+    }
+
+    // Runs down the express lanes to the last node, O(log(n)) expected
+    public Double getMaxVal() {
+        Node pred = head;
+        for(int level = MAX_LEVEL - 1; level > 0; level--) {
+            Node curr = unmark(pred.next(level));
+            while(curr != null) {
+                pred = curr;
+                curr = unmark(curr.next(level));
+            }
+        }
+
+        // pred may have been deleted, fall back to the last live node after it
+        Node max = pred == head || pred.isMarked() ? null : pred;
+        for(Node node = successor(pred); node != null; node = successor(node)) {
+            max = node;
+        }
+        if(max == null) {
+            throw new RuntimeException("Tree is empty");
+        }
+        return max.data;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new ConcurrentSkipListIterator();
+    }
+
+    private class ConcurrentSkipListIterator implements Iterator<Double> {
+        private Node next = successor(head);
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Double next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            Double res = next.data;
+            next = successor(next);
+            return res;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// DynamicArray specialized for double, elements are stored unboxed in a double[]
+// so push and get never allocate
+public class DoubleDynamicArray implements Iterable<Double> {
+    private double[] arr;
+    private int length = 0;  // length user thinks the dynamic array is
+    private int capacity;   // actual length of dynamic array
+    private final GrowthPolicy growthPolicy;
+
+    public DoubleDynamicArray(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public DoubleDynamicArray(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy can't be NULL");
+        }
+
+        this.capacity = capacity;
+        this.growthPolicy = growthPolicy;
+        arr = new double[capacity];
+    }
+
+    public DoubleDynamicArray(int capacity, double[] values) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        this.capacity = Math.max(capacity, values.length);
+        this.growthPolicy = GrowthPolicy.doubling();
+        length = values.length;
+        arr = Arrays.copyOf(values, this.capacity);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public double get(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        return arr[i];
+    }
+
+    public void set(int i, double n) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        arr[i] = n;
+    }
+
+    // Primitives hold no references, so there is nothing to clear in arr
+    public void clear() {
+        length = 0;
+    }
+
+    // Grows the backing array to hold at least minCapacity elements, O(n).
+    // minCapacity is a long so length + k can't overflow on the way in
+    private void grow(long minCapacity) {
+        if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+
+        capacity = Math.max(growthPolicy.nextCapacity(capacity), (int) minCapacity);
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    public void push(double n) {
+        if (length == capacity) {
+            grow(length + 1L);
+        }
+
+        arr[length] = n;
+        length++;
+    }
+
+    // Appends all values with a single copy, O(k)
+    public void addAll(double[] values) {
+        if ((long) length + values.length > capacity) {
+            grow((long) length + values.length);
+        }
+
+        System.arraycopy(values, 0, arr, length, values.length);
+        length += values.length;
+    }
+
+    public double pop() {
+        if (length == 0) {
+            throw new NoSuchElementException("Cannot pop from an empty dynamic array");
+        }
+
+        length--;
+        return arr[length];
+    }
+
+    // Shifts the tail left by one in place, O(n)
+    public double removeAt(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (index >= length) {
+            throw new NoSuchElementException("No element exists at this index");
+        }
+
+        double removedElement = arr[index];
+        System.arraycopy(arr, index + 1, arr, index, length - index - 1);
+        length--;
+        return removedElement;
+    }
+
+    public boolean remove(double n) {
+        int index = indexOf(n);
+        if (index == -1) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    // Compares like Double.equals, so NaN can be found and 0.0 differs from -0.0
+    public int indexOf(double n) {
+        for (int i=0; i<length; i++) {
+            if (Double.compare(arr[i], n) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(double n) {
+        return indexOf(n) != -1;
+    }
+
+    // Copy of the elements, exactly size() long
+    public double[] toArray() {
+        return Arrays.copyOf(arr, length);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleDynamicArrayIterator();
+    }
+
+    // Use nextDouble() to iterate without boxing
+    private class DoubleDynamicArrayIterator implements PrimitiveIterator.OfDouble {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < length;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            return arr[currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,224 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// IndexedPriorityQueue with primitive double priorities, such as the distances
+// of Dijkstra's algorithm. Priorities sit in a double[], so insert, update and
+// decreaseKey don't box and comparing two nodes is a single primitive compare
+// instead of a compareTo call.
+public class DoubleIndexedPriorityQueue {
+    private final int d;   // number of children per node
+    private final int maxSize;
+    private int size = 0;
+
+    private final int[] pm;   // position map, pm[key] is the heap position of key or -1
+    private final int[] im;   // inverse map, im[position] is the key at that heap position
+    private final double[] values;   // values[key] is the priority of key
+
+    public DoubleIndexedPriorityQueue(int maxSize) {
+        this(2, maxSize);
+    }
+
+    public DoubleIndexedPriorityQueue(int d, int maxSize) {
+        if (d < 2) {
+            throw new IllegalArgumentException("Heap arity should be at least 2");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Size should be more than 0");
+        }
+
+        this.d = d;
+        this.maxSize = maxSize;
+        pm = new int[maxSize];
+        im = new int[maxSize];
+        values = new double[maxSize];
+        Arrays.fill(pm, -1);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Removes every key, O(n)
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pm[im[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void checkKey(int key) {
+        if (key < 0 || key >= maxSize) {
+            throw new IndexOutOfBoundsException("Key index out of range");
+        }
+    }
+
+    private void checkContains(int key) {
+        if (!contains(key)) {
+            throw new NoSuchElementException("Key is not in the queue");
+        }
+    }
+
+    private static void checkValue(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Priority can't be NaN");
+        }
+    }
+
+    // Test if a key is in the heap, O(1)
+    public boolean contains(int key) {
+        checkKey(key);
+        return pm[key] != -1;
+    }
+
+    public double valueOf(int key) {
+        checkContains(key);
+        return values[key];
+    }
+
+    // Returns the key with the lowest value, O(1)
+    public int peekMinKey() {
+        if (isEmpty()) throw new NoSuchElementException("Priority queue is empty");
+        return im[0];
+    }
+
+    public double peekMinValue() {
+        return values[peekMinKey()];
+    }
+
+    // Removes the key with the lowest value and returns it, O(d * log_d(n))
+    public int pollMinKey() {
+        int key = peekMinKey();
+        delete(key);
+        return key;
+    }
+
+    // Adds a key that isn't in the heap yet, O(log_d(n))
+    public void insert(int key, double value) {
+        if (contains(key)) throw new IllegalArgumentException("Key is already in the queue");
+        checkValue(value);
+
+        pm[key] = size;
+        im[size] = key;
+        values[key] = value;
+        swim(size++);
+    }
+
+    // Removes a key and returns its value, O(d * log_d(n))
+    public double delete(int key) {
+        checkContains(key);
+
+        int index = pm[key];
+        double value = values[key];
+        swap(index, --size);
+        pm[key] = -1;
+        im[size] = -1;
+
+        if (index < size) {
+            // The swapped in key may belong above or below index
+            sink(index);
+            swim(index);
+        }
+        return value;
+    }
+
+    // Sets a new value for a key in the heap and returns the old one, O(d * log_d(n))
+    public double update(int key, double value) {
+        checkContains(key);
+        checkValue(value);
+
+        int index = pm[key];
+        double oldValue = values[key];
+        values[key] = value;
+        sink(index);
+        swim(index);
+        return oldValue;
+    }
+
+    // Lowers the value of a key, does nothing if value isn't lower, O(log_d(n))
+    public void decreaseKey(int key, double value) {
+        checkContains(key);
+        checkValue(value);
+
+        if (value < values[key]) {
+            values[key] = value;
+            swim(pm[key]);
+        }
+    }
+
+    // Raises the value of a key, does nothing if value isn't higher, O(d * log_d(n))
+    public void increaseKey(int key, double value) {
+        checkContains(key);
+        checkValue(value);
+
+        if (values[key] < value) {
+            values[key] = value;
+            sink(pm[key]);
+        }
+    }
+
+    // Tests if the value at heap position i < value at position j
+    private boolean isLess(int i, int j) {
+        return values[im[i]] < values[im[j]];
+    }
+
+    private void swap(int i, int j) {
+        int keyI = im[i];
+        int keyJ = im[j];
+        im[i] = keyJ;
+        im[j] = keyI;
+        pm[keyJ] = i;
+        pm[keyI] = j;
+    }
+
+    // Top down node sink, O(d * log_d(n))
+    private void sink(int index) {
+        while (true) {
+            int smallest = minChild(index);
+            if (smallest == -1 || !isLess(smallest, index)) break;
+
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    // Bottom up node swim, O(log_d(n))
+    private void swim(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / d;
+            if (!isLess(index, parent)) break;
+
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    // Position of the smallest child of index, or -1 if it has none
+    private int minChild(int index) {
+        int first = d * index + 1;
+        if (first >= size) return -1;
+
+        int last = Math.min(first + d, size);
+        int smallest = first;
+        for (int child = first + 1; child < last; child++) {
+            if (isLess(child, smallest)) smallest = child;
+        }
+        return smallest;
+    }
+
+    // Checks the heap invariant and that the two maps agree, for testing purposes
+    public boolean isMinHeap() {
+        for (int i = 0; i < size; i++) {
+            if (pm[im[i]] != i) return false;
+
+            int first = d * i + 1;
+            for (int child = first; child < Math.min(first + d, size); child++) {
+                if (isLess(child, i)) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -5,6 +6,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     private int size = 0;
     private Node<T> head = null;
     private Node<T> tail = null;
+    private int modCount = 0;   // bumped by every add and remove, iterators use it to fail fast
     private class Node<T> {
         T data = null;
         Node<T> next = null;
@@ -68,12 +70,14 @@ public class DoublyLinkedList<T> implements Iterable<T> {
             head = node;
             tail = node;
             size++;
+            modCount++;
         }
         else {
             node.next = head;
             head.prev = node;
             head = node;
             size++;
+            modCount++;
         }
     }
     
@@ -83,12 +87,14 @@ public class DoublyLinkedList<T> implements Iterable<T> {
             head = node;
             tail = node;
             size++;
+            modCount++;
         }
         else {
             tail.next = node;
             node.prev = tail;
             tail = node;
             size++;
+            modCount++;
         }
     }
 
@@ -107,6 +113,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
             prevNode.prev = node;
             node.next = prevNode;
             size++;
+            modCount++;
         }
     }
     
@@ -120,12 +127,14 @@ public class DoublyLinkedList<T> implements Iterable<T> {
             head = null;
             tail = null;
             size--;
+            modCount++;
         }
         else {
             removed = head.data;
             head = head.next;
             head.prev = null;
             size--;
+            modCount++;
         }
         return removed;
     }
@@ -140,12 +149,14 @@ public class DoublyLinkedList<T> implements Iterable<T> {
             head = null;
             tail = null;
             size--;
+            modCount++;
         }
         else {
             removed = tail.data;
             tail = tail.prev;
             tail.next = null;
             size--;
+            modCount++;
         }
         return removed;
     }
@@ -154,8 +165,70 @@ public class DoublyLinkedList<T> implements Iterable<T> {
 //        
 //    }
     
+    // Unlinks node from between its neighbours, O(1)
+    private void unlink(Node<T> node) {
+        if(node.prev == null) {
+            head = node.next;
+        }
+        else {
+            node.prev.next = node.next;
+        }
+        if(node.next == null) {
+            tail = node.prev;
+        }
+        else {
+            node.next.prev = node.prev;
+        }
+        node.data = null;
+        node.prev = node.next = null;
+        size--;
+        modCount++;
+    }
+    
     @Override
     public Iterator<T> iterator() {
-        return null;
+        return new DoublyLinkedListIterator();
+    }
+    
+    // Fails fast: throws ConcurrentModificationException on the first next() after
+    // the list is changed other than through the iterator, one field compare per element
+    private class DoublyLinkedListIterator implements Iterator<T> {
+        private Node<T> nextNode = head;
+        private Node<T> lastReturned = null;
+        private int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+        
+        @Override
+        public T next() {
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if(nextNode == null) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+            
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            return lastReturned.data;
+        }
+        
+        // Removes the element last returned by next, O(1)
+        @Override
+        public void remove() {
+            if(lastReturned == null) {
+                throw new IllegalStateException("next() hasn't been called since the last remove()");
+            }
+            if(modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
     }
 }
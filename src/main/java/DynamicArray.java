@@ -1,38 +1,103 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings("unchecked")
 public class DynamicArray<T> implements Iterable<T>{
     private T[] arr;
     private int length = 0;  // length user things the dynamic array is
     private int capacity;   // actual length of dynamic array
+    private final int initialCapacity;   // never shrink below this
+    private final GrowthPolicy growthPolicy;
+    private final double shrinkThreshold;   // shrink once length < capacity * shrinkThreshold, 0 never shrinks
+    private int modCount = 0;   // bumped by every change to length or order, iterators use it to fail fast
 
     public DynamicArray(int capacity) {
-        if (capacity <= 0) {
-            throw new IllegalArgumentException("Capacity should be more than 0");
-        }
+        this(capacity, GrowthPolicy.doubling());
+    }
 
-        this.capacity = capacity;
-        arr = (T[]) new Object[capacity];
+    public DynamicArray(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity, growthPolicy, 0);
     }
 
-    public DynamicArray(int capacity, T[] values) {
+    // Shrinking halves the load to 2 * length / capacity, so a threshold below
+    // 0.5 leaves a gap between shrinking and growing again (hysteresis)
+    public DynamicArray(int capacity, GrowthPolicy growthPolicy, double shrinkThreshold) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity should be more than 0");
         }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy can't be NULL");
+        }
+        if (shrinkThreshold < 0 || shrinkThreshold >= 0.5) {
+            throw new IllegalArgumentException("Shrink threshold should be in [0, 0.5)");
+        }
 
         this.capacity = capacity;
-        length = values.length;
+        this.initialCapacity = capacity;
+        this.growthPolicy = growthPolicy;
+        this.shrinkThreshold = shrinkThreshold;
         arr = (T[]) new Object[capacity];
+    }
+
+    public DynamicArray(int capacity, T[] values) {
+        this(capacity);
+        ensureCapacity(values.length);
         
-        for(int i=0; i<length; i++) {
-            arr[i] = values[i];
-        }
+        length = values.length;
+        System.arraycopy(values, 0, arr, 0, length);
     }
     
     public int size() {
         return length;
     }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    // Grows the backing array so it holds at least minCapacity elements
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        if (minCapacity > capacity) {
+            resize(Math.max(growthPolicy.nextCapacity(capacity), minCapacity));
+        }
+    }
+    
+    // Releases all unused capacity
+    public void trimToSize() {
+        if (length < capacity) {
+            resize(Math.max(length, 1));
+        }
+    }
+    
+    private void resize(int newCapacity) {
+        arr = Arrays.copyOf(arr, newCapacity);
+        capacity = newCapacity;
+    }
+    
+    // Called after removals, shrinks to twice the length once the load drops below the threshold
+    private void shrinkIfSparse() {
+        if (shrinkThreshold > 0 && capacity > initialCapacity && length < capacity * shrinkThreshold) {
+            resize(Math.max(length * 2, initialCapacity));
+        }
+    }
 
     public T get(int i) {
         if (i < 0) {
@@ -61,22 +126,17 @@ public class DynamicArray<T> implements Iterable<T>{
             arr[i] = null;
         }
         length = 0;
+        modCount++;
     }
 
     public void push(T n) {
         if (length == capacity) {
-            capacity *= 2;
-            T[] newArr = (T[]) new Object[capacity];
-
-            for (int i = 0; i < length; i++) {
-                newArr[i] = arr[i];
-            }
-
-            arr = newArr;
+            ensureCapacity(length + 1);
         }
 
         arr[length] = n;
         length++;
+        modCount++;
     }
 
     public T pop() {
@@ -85,29 +145,81 @@ public class DynamicArray<T> implements Iterable<T>{
         }
 
         length--;
+        modCount++;
         T poppedElement = arr[length];
         arr[length] = null;
+        shrinkIfSparse();
         return poppedElement;
     }
     
+    // Shifts the tail left by one in place, O(n) time and no allocation
     public T removeAt(int index) {
-        if (index >= length) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (index >= length) {
             throw new NoSuchElementException("No element exists at this index");
         }
         
         T removedElement = arr[index];
-        T[] newArr = (T[]) new Object[length-1];
+        System.arraycopy(arr, index + 1, arr, index, length - index - 1);
+        
+        length--;
+        modCount++;
+        arr[length] = null;
+        shrinkIfSparse();
+        return removedElement;    
+    }
+    
+    // Removes the elements in [from, to) with a single shift, O(n)
+    public void removeRange(int from, int to) {
+        if (from < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (to > length) {
+            throw new NoSuchElementException("No element exists at this index");
+        }
+        else if (from > to) {
+            throw new IllegalArgumentException("Start of range is after its end");
+        }
         
-        for (int i=0, j=0; i < length; i++, j++) {
-            if (i == index) j--;
-            else {
-                newArr[j] = arr[i];
+        System.arraycopy(arr, to, arr, from, length - to);
+        truncate(length - (to - from));
+    }
+    
+    // Removes every element matching the filter, O(n). The filter is run on every
+    // element before anything moves, so if it throws the array is left as it was
+    public boolean removeIf(Predicate<? super T> filter) {
+        int expectedModCount = modCount;
+        BitSet removed = new BitSet(length);
+        for (int i=0; i<length; i++) {
+            if (filter.test(arr[i])) {
+                removed.set(i);
             }
         }
+        if (modCount != expectedModCount) throw new ConcurrentModificationException();
         
-        arr = newArr;
-        length--;
-        return removedElement;    
+        if (removed.isEmpty()) return false;
+        
+        // Compact in a single pass from the first removed element
+        int kept = removed.nextSetBit(0);
+        for (int i=kept; i<length; i++) {
+            if (!removed.get(i)) {
+                arr[kept++] = arr[i];
+            }
+        }
+        truncate(kept);
+        return true;
+    }
+    
+    // Drops everything from newLength onwards so the array doesn't keep it reachable
+    private void truncate(int newLength) {
+        for (int i=newLength; i<length; i++) {
+            arr[i] = null;
+        }
+        length = newLength;
+        modCount++;
+        shrinkIfSparse();
     }
     
     public boolean remove(T obj) {
@@ -136,27 +248,188 @@ public class DynamicArray<T> implements Iterable<T>{
         
         else return true;
     }
+    
+    // Binary format, see BinaryFormat:
+    //   0  int   magic
+    //   4  int   length
+    //   8  long  element size in bytes
+    //   16       length elements encoded by the layout
+    private static final int MAGIC = 0x44594E53;   // "DYNS"
+    
+    // Streams the elements to channel encoded by layout, O(n)
+    public void writeTo(WritableByteChannel channel, ElementLayout<T> layout) throws IOException {
+        BinaryFormat.Writer writer = new BinaryFormat.Writer(channel, layout.byteSize());
+        writer.putInt(MAGIC);
+        writer.putInt(length);
+        writer.putLong(layout.byteSize());
+        for (int i=0; i<length; i++) {
+            if (arr[i] == null) {
+                throw new IllegalStateException("Can't encode NULL element at index " + i);
+            }
+            writer.put(layout, arr[i]);
+        }
+        writer.flush();
+    }
+    
+    // Reads an array written by writeTo, sized to exactly fit its elements, O(n)
+    public static <T> DynamicArray<T> readFrom(ReadableByteChannel channel, ElementLayout<T> layout) throws IOException {
+        BinaryFormat.Reader reader = new BinaryFormat.Reader(channel, layout.byteSize());
+        if (reader.getInt() != MAGIC) {
+            throw new IOException("Not a DynamicArray or written with a different byte order");
+        }
+        int length = reader.getInt();
+        if (length < 0 || length > GrowthPolicy.MAX_CAPACITY) {
+            throw new IOException("Malformed length " + length);
+        }
+        if (reader.getLong() != layout.byteSize()) {
+            throw new IOException("Element size doesn't match the layout");
+        }
+        reader.expect(length * layout.byteSize());
+        
+        DynamicArray<T> dynamicArray = new DynamicArray<>(Math.max(length, 1));
+        for (int i=0; i<length; i++) {
+            dynamicArray.arr[i] = reader.get(layout);
+        }
+        dynamicArray.length = length;
+        return dynamicArray;
+    }
+    
+    // The parallel operations below split the array into ranges that run on the
+    // ForkJoinPool common pool. The array must not be modified while they run.
+    
+    // Sorts with Arrays.parallelSort, a parallel merge sort that is stable
+    public void parallelSort(Comparator<? super T> comparator) {
+        Arrays.parallelSort(arr, 0, length, comparator);
+        modCount++;
+    }
+    
+    // Runs action on every element, in no particular order
+    public void parallelForEach(Consumer<? super T> action) {
+        parallelStream().forEach(action);
+    }
+    
+    // accumulator must be associative and identity must be its identity
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelStream().reduce(identity, accumulator);
+    }
+    
+    // Lowest index holding obj like indexOf, ranges after a match are skipped
+    public int parallelIndexOf(T obj) {
+        T[] elements = arr;
+        return IntStream.range(0, length)
+                .parallel()
+                .filter(i -> Objects.equals(elements[i], obj))
+                .findFirst()
+                .orElse(-1);
+    }
+    
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DynamicArraySpliterator(0, length);
+    }
+    
+    // Covers arr[index, fence) and splits it in half for fork/join
+    private class DynamicArraySpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+        
+        DynamicArraySpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) return false;
+            
+            action.accept(arr[index++]);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] elements = arr;
+            for (int i = index; i < fence; i++) {
+                action.accept(elements[i]);
+            }
+            index = fence;
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+            
+            Spliterator<T> prefix = new DynamicArraySpliterator(index, mid);
+            index = mid;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 
     @Override
     public Iterator<T> iterator() {
         return new DynamicArrayIterator();
     }
     
+    // Fails fast: throws ConcurrentModificationException on the first next() after
+    // the array is changed other than through the iterator. Checking costs one
+    // field compare per element. Like java.util this is a best effort for catching
+    // bugs, not a guarantee under unsynchronized concurrent use
     private class DynamicArrayIterator implements Iterator<T> {
-        private int currentIndex = 0;
+        private int cursor = 0;   // index of the next element
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
         
         @Override
         public boolean hasNext() {
-            return currentIndex + 1 < length;
+            return cursor < length;
         }
 
         @Override
         public T next() {
-            if(!hasNext()) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= length) {
                 throw new NoSuchElementException("No element exists on next index");
-            }   
+            }
+            
+            lastReturned = cursor;
+            return arr[cursor++];
+        }
+        
+        // Removes the element last returned by next, O(n)
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException("next() hasn't been called since the last remove()");
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
             
-            return arr[++currentIndex];
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
     }
 }
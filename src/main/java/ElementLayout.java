@@ -0,0 +1,41 @@
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+// Encodes a fixed-width element to and from raw memory, used by the off-heap arrays.
+// Implement it for a record to store its fields as a flat struct.
+public interface ElementLayout<T> {
+    ElementLayout<Integer> INT = of(ValueLayout.JAVA_INT);
+    ElementLayout<Long> LONG = of(ValueLayout.JAVA_LONG);
+    ElementLayout<Double> DOUBLE = of(ValueLayout.JAVA_DOUBLE);
+
+    // Bytes taken by one element, the same for every element
+    long byteSize();
+
+    void write(MemorySegment segment, long offset, T value);
+
+    T read(MemorySegment segment, long offset);
+
+    private static ElementLayout<Integer> of(ValueLayout.OfInt layout) {
+        return new ElementLayout<>() {
+            public long byteSize() { return layout.byteSize(); }
+            public void write(MemorySegment segment, long offset, Integer value) { segment.set(layout, offset, value); }
+            public Integer read(MemorySegment segment, long offset) { return segment.get(layout, offset); }
+        };
+    }
+
+    private static ElementLayout<Long> of(ValueLayout.OfLong layout) {
+        return new ElementLayout<>() {
+            public long byteSize() { return layout.byteSize(); }
+            public void write(MemorySegment segment, long offset, Long value) { segment.set(layout, offset, value); }
+            public Long read(MemorySegment segment, long offset) { return segment.get(layout, offset); }
+        };
+    }
+
+    private static ElementLayout<Double> of(ValueLayout.OfDouble layout) {
+        return new ElementLayout<>() {
+            public long byteSize() { return layout.byteSize(); }
+            public void write(MemorySegment segment, long offset, Double value) { segment.set(layout, offset, value); }
+            public Double read(MemorySegment segment, long offset) { return segment.get(layout, offset); }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+// Decides how much a dynamic array grows when it runs out of room
+@FunctionalInterface
+public interface GrowthPolicy {
+    // Largest array length the JVM reliably allocates
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    // Returns the capacity to grow to from a full array of the given capacity.
+    // Callers still grow to the capacity they need if this returns less.
+    int nextCapacity(int capacity);
+
+    // capacity * 2, the default
+    static GrowthPolicy doubling() {
+        return capacity -> clamp(capacity * 2L);
+    }
+
+    // capacity * 1.5, trades more frequent copies for less slack
+    static GrowthPolicy oneAndHalf() {
+        return capacity -> clamp(capacity + (capacity >> 1));
+    }
+
+    // capacity + increment, slack never exceeds increment
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment should be more than 0");
+        }
+        return capacity -> clamp((long) capacity + increment);
+    }
+
+    // Doubles while small, but never grows by more than maxIncrement at once
+    static GrowthPolicy capped(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Increment should be more than 0");
+        }
+        return capacity -> clamp(capacity + (long) Math.min(capacity, maxIncrement));
+    }
+
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,176 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// DynamicArray specialized for int, elements are stored unboxed in an int[]
+// so push and get never allocate
+public class IntDynamicArray implements Iterable<Integer> {
+    private int[] arr;
+    private int length = 0;  // length user thinks the dynamic array is
+    private int capacity;   // actual length of dynamic array
+    private final GrowthPolicy growthPolicy;
+
+    public IntDynamicArray(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public IntDynamicArray(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy can't be NULL");
+        }
+
+        this.capacity = capacity;
+        this.growthPolicy = growthPolicy;
+        arr = new int[capacity];
+    }
+
+    public IntDynamicArray(int capacity, int[] values) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        this.capacity = Math.max(capacity, values.length);
+        this.growthPolicy = GrowthPolicy.doubling();
+        length = values.length;
+        arr = Arrays.copyOf(values, this.capacity);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public int get(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        return arr[i];
+    }
+
+    public void set(int i, int n) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        arr[i] = n;
+    }
+
+    // Primitives hold no references, so there is nothing to clear in arr
+    public void clear() {
+        length = 0;
+    }
+
+    // Grows the backing array to hold at least minCapacity elements, O(n).
+    // minCapacity is a long so length + k can't overflow on the way in
+    private void grow(long minCapacity) {
+        if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+
+        capacity = Math.max(growthPolicy.nextCapacity(capacity), (int) minCapacity);
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    public void push(int n) {
+        if (length == capacity) {
+            grow(length + 1L);
+        }
+
+        arr[length] = n;
+        length++;
+    }
+
+    // Appends all values with a single copy, O(k)
+    public void addAll(int[] values) {
+        if ((long) length + values.length > capacity) {
+            grow((long) length + values.length);
+        }
+
+        System.arraycopy(values, 0, arr, length, values.length);
+        length += values.length;
+    }
+
+    public int pop() {
+        if (length == 0) {
+            throw new NoSuchElementException("Cannot pop from an empty dynamic array");
+        }
+
+        length--;
+        return arr[length];
+    }
+
+    // Shifts the tail left by one in place, O(n)
+    public int removeAt(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (index >= length) {
+            throw new NoSuchElementException("No element exists at this index");
+        }
+
+        int removedElement = arr[index];
+        System.arraycopy(arr, index + 1, arr, index, length - index - 1);
+        length--;
+        return removedElement;
+    }
+
+    public boolean remove(int n) {
+        int index = indexOf(n);
+        if (index == -1) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(int n) {
+        for (int i=0; i<length; i++) {
+            if (arr[i] == n) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(int n) {
+        return indexOf(n) != -1;
+    }
+
+    // Copy of the elements, exactly size() long
+    public int[] toArray() {
+        return Arrays.copyOf(arr, length);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntDynamicArrayIterator();
+    }
+
+    // Use nextInt() to iterate without boxing
+    private class IntDynamicArrayIterator implements PrimitiveIterator.OfInt {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < length;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            return arr[currentIndex++];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+
+// Moves elements encoded by an ElementLayout in and out of a heap ByteBuffer for
+// BinaryFormat. ElementLayouts use aligned ValueLayouts, which a byte[] backed
+// segment can't serve, so each element goes through a small native scratch
+// segment the size of one element. Kept apart from BinaryFormat so that only the
+// ElementLayout path touches the FFM API, which is still a preview in Java 21.
+final class LayoutScratch {
+    private final MemorySegment segment;
+    private final ByteBuffer buffer;   // view of segment
+
+    LayoutScratch(long elementSize) {
+        // 8 bytes covers the alignment of every primitive layout
+        segment = Arena.ofAuto().allocate(elementSize, Long.BYTES);
+        buffer = segment.asByteBuffer();
+    }
+
+    // Appends value to dst, which must have room for it
+    <T> void write(ElementLayout<T> layout, T value, ByteBuffer dst) {
+        layout.write(segment, 0, value);
+        dst.put(buffer.clear());
+    }
+
+    // Takes the next element off src, which must hold all of its bytes
+    <T> T read(ElementLayout<T> layout, ByteBuffer src) {
+        int size = buffer.capacity();
+        buffer.put(0, src, src.position(), size);
+        src.position(src.position() + size);
+        return layout.read(segment, 0);
+    }
+}
@@ -0,0 +1,176 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// DynamicArray specialized for long, elements are stored unboxed in a long[]
+// so push and get never allocate
+public class LongDynamicArray implements Iterable<Long> {
+    private long[] arr;
+    private int length = 0;  // length user thinks the dynamic array is
+    private int capacity;   // actual length of dynamic array
+    private final GrowthPolicy growthPolicy;
+
+    public LongDynamicArray(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public LongDynamicArray(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy can't be NULL");
+        }
+
+        this.capacity = capacity;
+        this.growthPolicy = growthPolicy;
+        arr = new long[capacity];
+    }
+
+    public LongDynamicArray(int capacity, long[] values) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        this.capacity = Math.max(capacity, values.length);
+        this.growthPolicy = GrowthPolicy.doubling();
+        length = values.length;
+        arr = Arrays.copyOf(values, this.capacity);
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public long get(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        return arr[i];
+    }
+
+    public void set(int i, long n) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+
+        arr[i] = n;
+    }
+
+    // Primitives hold no references, so there is nothing to clear in arr
+    public void clear() {
+        length = 0;
+    }
+
+    // Grows the backing array to hold at least minCapacity elements, O(n).
+    // minCapacity is a long so length + k can't overflow on the way in
+    private void grow(long minCapacity) {
+        if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+
+        capacity = Math.max(growthPolicy.nextCapacity(capacity), (int) minCapacity);
+        arr = Arrays.copyOf(arr, capacity);
+    }
+
+    public void push(long n) {
+        if (length == capacity) {
+            grow(length + 1L);
+        }
+
+        arr[length] = n;
+        length++;
+    }
+
+    // Appends all values with a single copy, O(k)
+    public void addAll(long[] values) {
+        if ((long) length + values.length > capacity) {
+            grow((long) length + values.length);
+        }
+
+        System.arraycopy(values, 0, arr, length, values.length);
+        length += values.length;
+    }
+
+    public long pop() {
+        if (length == 0) {
+            throw new NoSuchElementException("Cannot pop from an empty dynamic array");
+        }
+
+        length--;
+        return arr[length];
+    }
+
+    // Shifts the tail left by one in place, O(n)
+    public long removeAt(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (index >= length) {
+            throw new NoSuchElementException("No element exists at this index");
+        }
+
+        long removedElement = arr[index];
+        System.arraycopy(arr, index + 1, arr, index, length - index - 1);
+        length--;
+        return removedElement;
+    }
+
+    public boolean remove(long n) {
+        int index = indexOf(n);
+        if (index == -1) return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(long n) {
+        for (int i=0; i<length; i++) {
+            if (arr[i] == n) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(long n) {
+        return indexOf(n) != -1;
+    }
+
+    // Copy of the elements, exactly size() long
+    public long[] toArray() {
+        return Arrays.copyOf(arr, length);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongDynamicArrayIterator();
+    }
+
+    // Use nextLong() to iterate without boxing
+    private class LongDynamicArrayIterator implements PrimitiveIterator.OfLong {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < length;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            return arr[currentIndex++];
+        }
+    }
+}
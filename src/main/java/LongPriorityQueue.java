@@ -0,0 +1,123 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Min priority queue of payloads ordered by a primitive long priority, such as a
+// deadline. Priorities sit in a long[] next to the payload array, so comparing
+// two nodes is a single primitive compare with no boxing or compareTo call.
+@SuppressWarnings("unchecked")
+public class LongPriorityQueue<T> {
+    private long[] priorities;
+    private Object[] payloads;
+    private int size = 0;
+
+    public LongPriorityQueue() {
+        this(16);
+    }
+
+    public LongPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        priorities = new long[capacity];
+        payloads = new Object[capacity];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Clears everything inside the heap, O(n)
+    public void clear() {
+        Arrays.fill(payloads, 0, size, null);
+        size = 0;
+    }
+
+    // Adds a payload with the given priority, payload may be null, O(log(n))
+    public void add(long priority, T payload) {
+        if (size == priorities.length) {
+            if (size + 1 > GrowthPolicy.MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+            }
+            int capacity = Math.max(GrowthPolicy.doubling().nextCapacity(size), size + 1);
+            priorities = Arrays.copyOf(priorities, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+
+        swim(size++, priority, payload);
+    }
+
+    // Lowest priority in the queue, O(1)
+    public long peekPriority() {
+        if (isEmpty()) throw new NoSuchElementException("Priority queue is empty");
+        return priorities[0];
+    }
+
+    // Payload with the lowest priority, or null if the queue is empty like
+    // MinPriorityQueue.peek. Payloads may be null too, check isEmpty to tell
+    // the two apart, O(1)
+    public T peek() {
+        if (isEmpty()) return null;
+        return (T) payloads[0];
+    }
+
+    // Removes the root of the heap and returns its payload, O(log(n))
+    public T poll() {
+        if (isEmpty()) throw new NoSuchElementException("Priority queue is empty");
+        T removed = (T) payloads[0];
+
+        size--;
+        long lastPriority = priorities[size];
+        Object lastPayload = payloads[size];
+        payloads[size] = null;
+        if (size > 0) sink(0, lastPriority, lastPayload);
+
+        return removed;
+    }
+
+    // Moves the hole at index up until priority fits in it and fills it,
+    // shifting parents down instead of swapping, O(log(n))
+    private void swim(int index, long priority, Object payload) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (priorities[parent] <= priority) break;
+
+            priorities[index] = priorities[parent];
+            payloads[index] = payloads[parent];
+            index = parent;
+        }
+
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    // Moves the hole at index down until priority fits in it and fills it, O(log(n))
+    private void sink(int index, long priority, Object payload) {
+        int half = size / 2;   // nodes from half onwards are leaves
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) child = right;
+            if (priority <= priorities[child]) break;
+
+            priorities[index] = priorities[child];
+            payloads[index] = payloads[child];
+            index = child;
+        }
+
+        priorities[index] = priority;
+        payloads[index] = payload;
+    }
+
+    // Checks the heap invariant, for testing purposes
+    public boolean isMinHeap() {
+        for (int i = 1; i < size; i++) {
+            if (priorities[i] < priorities[(i - 1) / 2]) return false;
+        }
+        return true;
+    }
+}
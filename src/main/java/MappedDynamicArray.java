@@ -0,0 +1,148 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// DynamicArray of fixed-width elements stored in a memory-mapped file. Length and
+// capacity are kept in a header at the start of the file, so reopening an existing
+// file only maps it, in O(1) no matter how much data it holds.
+//
+// File layout, in native byte order:
+//   0  int   magic
+//   8  long  element size in bytes
+//   16 long  length
+//   24 long  capacity
+//   32       capacity * element size bytes of elements
+public class MappedDynamicArray<T> extends SegmentDynamicArray<T> {
+    private static final int MAGIC = 0x44594E41;   // "DYNA"
+    private static final long MAGIC_OFFSET = 0;
+    private static final long ELEMENT_SIZE_OFFSET = 8;
+    private static final long LENGTH_OFFSET = 16;
+    private static final long CAPACITY_OFFSET = 24;
+    private static final long HEADER_SIZE = 32;
+
+    private final FileChannel channel;
+    private Arena arena;   // owns the current mapping
+    private MemorySegment mapping;   // header followed by segment
+
+    public MappedDynamicArray(Path file, ElementLayout<T> layout, int capacity) throws IOException {
+        this(file, layout, capacity, GrowthPolicy.doubling());
+    }
+
+    // Opens the array stored in file, or creates it with the given capacity
+    // if the file doesn't exist or is empty
+    public MappedDynamicArray(Path file, ElementLayout<T> layout, int capacity, GrowthPolicy growthPolicy) throws IOException {
+        super(layout, growthPolicy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                map(capacity);
+                mapping.set(ValueLayout.JAVA_INT, MAGIC_OFFSET, MAGIC);
+                mapping.set(ValueLayout.JAVA_LONG, ELEMENT_SIZE_OFFSET, elementSize);
+                lengthChanged();
+            }
+            else {
+                reopen();
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            if (arena != null) arena.close();
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void reopen() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("File is not a mapped dynamic array");
+        }
+
+        arena = Arena.ofShared();
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize, arena);
+        if (mapping.get(ValueLayout.JAVA_INT, MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalArgumentException("File is not a mapped dynamic array");
+        }
+        if (mapping.get(ValueLayout.JAVA_LONG, ELEMENT_SIZE_OFFSET) != elementSize) {
+            throw new IllegalArgumentException("File was written with a different element size");
+        }
+
+        long storedCapacity = mapping.get(ValueLayout.JAVA_LONG, CAPACITY_OFFSET);
+        long storedLength = mapping.get(ValueLayout.JAVA_LONG, LENGTH_OFFSET);
+        // Checked first, a huge capacity would overflow the file size check below
+        if (storedCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new IOException("File capacity exceeds maximum array size");
+        }
+        if (storedCapacity <= 0 || HEADER_SIZE + storedCapacity * elementSize > fileSize
+                || storedLength < 0 || storedLength > storedCapacity) {
+            throw new IllegalArgumentException("File header is corrupt");
+        }
+
+        capacity = (int) storedCapacity;
+        length = (int) storedLength;
+        segment = mapping.asSlice(HEADER_SIZE, capacity * elementSize);
+    }
+
+    // Maps the header and newCapacity elements, growing the file if needed
+    private void map(int newCapacity) throws IOException {
+        arena = Arena.ofShared();
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + newCapacity * elementSize, arena);
+        segment = mapping.asSlice(HEADER_SIZE);
+        capacity = newCapacity;
+        mapping.set(ValueLayout.JAVA_LONG, CAPACITY_OFFSET, capacity);
+    }
+
+    // The elements are already in the file, so this only remaps it, shrinking the file first if needed
+    @Override
+    void resize(int newCapacity) {
+        arena.close();
+        try {
+            if (newCapacity < capacity) {
+                channel.truncate(HEADER_SIZE + newCapacity * elementSize);
+            }
+            map(newCapacity);
+        }
+        catch (IOException e) {
+            segment = null;
+            closeChannel();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void lengthChanged() {
+        mapping.set(ValueLayout.JAVA_LONG, LENGTH_OFFSET, length);
+    }
+
+    // Writes changed pages back to the file, without this the OS does it in its own time
+    public void force() {
+        checkOpen();
+        mapping.force();
+    }
+
+    @Override
+    void release() {
+        mapping.force();
+        arena.close();
+        arena = null;
+        mapping = null;
+        closeChannel();
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+// Operations shared by the min priority queues. peek returns null on an
+// empty queue and poll throws NoSuchElementException, as PriorityQueue does.
+public interface MinPriorityQueue<T> {
+    int getSize();
+
+    boolean isEmpty();
+
+    void clear();
+
+    void add(T obj);
+
+    T peek();
+
+    T poll();
+}
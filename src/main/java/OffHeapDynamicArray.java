@@ -0,0 +1,45 @@
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+// DynamicArray whose elements live outside the Java heap as fixed-width records,
+// so the garbage collector never scans them. The memory is only released by
+// close(), after which every operation throws IllegalStateException.
+public class OffHeapDynamicArray<T> extends SegmentDynamicArray<T> {
+    private static final long ALIGNMENT = 8;
+
+    private Arena arena;   // owns segment only, so the old one can be freed on growth
+
+    public OffHeapDynamicArray(ElementLayout<T> layout, int capacity) {
+        this(layout, capacity, GrowthPolicy.doubling());
+    }
+
+    public OffHeapDynamicArray(ElementLayout<T> layout, int capacity, GrowthPolicy growthPolicy) {
+        super(layout, growthPolicy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(capacity * elementSize, ALIGNMENT);
+        this.capacity = capacity;
+    }
+
+    // Moves the elements to a new segment of the requested capacity and frees the old one, O(n)
+    @Override
+    void resize(int newCapacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment = newArena.allocate(newCapacity * elementSize, ALIGNMENT);
+        MemorySegment.copy(segment, 0, newSegment, 0, length * elementSize);
+
+        arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    @Override
+    void release() {
+        arena.close();
+        arena = null;
+    }
+}
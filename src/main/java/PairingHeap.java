@@ -0,0 +1,177 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+// Min heap stored as a multiway tree where every node is no greater than its
+// children. Children of a node form a doubly linked list through sibling and
+// prev, so a subtree can be cut out in O(1).
+//
+// add, meld and decreaseKey just link two trees, O(1). poll removes the root and
+// combines its children pairwise, amortized O(log(n)).
+public class PairingHeap<T> implements MinPriorityQueue<T> {
+    private final Comparator<? super T> comparator;
+    private Node<T> root = null;
+    private int size = 0;
+
+    // Handle to an element, returned by insert and passed to decreaseKey
+    public static class Node<T> {
+        private T value;
+        private Node<T> child = null;   // leftmost child
+        private Node<T> sibling = null;   // next sibling to the right
+        private Node<T> prev = null;   // left sibling, or parent for the leftmost child
+        private boolean removed = false;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value.toString();
+        }
+    }
+
+    // Natural ordering is a factory rather than a constructor, so only
+    // Comparable element types compile
+    public static <T extends Comparable<? super T>> PairingHeap<T> create() {
+        return new PairingHeap<>(Comparator.naturalOrder());
+    }
+
+    public PairingHeap(Comparator<? super T> comparator) {
+        if (comparator == null) throw new IllegalArgumentException("Comparator can't be null");
+        this.comparator = comparator;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Drops every node, O(1). Handles to the old nodes must not be used again
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    @Override
+    public void add(T obj) {
+        insert(obj);
+    }
+
+    // Adds an element and returns its handle for decreaseKey, O(1)
+    public Node<T> insert(T obj) {
+        if (obj == null) throw new IllegalArgumentException("Can't add null value");
+
+        Node<T> node = new Node<>(obj);
+        root = root == null ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    @Override
+    public T peek() {
+        return root == null ? null : root.value;
+    }
+
+    // Removes the root and merges its children back into one tree, amortized O(log(n))
+    @Override
+    public T poll() {
+        if (isEmpty()) throw new NoSuchElementException("Can't remove from an empty queue");
+
+        Node<T> removed = root;
+        root = combineSiblings(removed.child);
+        removed.child = null;
+        removed.removed = true;
+        size--;
+        return removed.value;
+    }
+
+    // Moves every element of other into this heap in O(1), leaving other empty.
+    // Handles from other stay valid and now belong to this heap.
+    public void meld(PairingHeap<T> other) {
+        if (other == this || other.root == null) return;
+
+        root = root == null ? other.root : link(root, other.root);
+        size += other.size;
+        other.clear();
+    }
+
+    // Lowers the value of a node still in the heap, amortized O(1)
+    public void decreaseKey(Node<T> node, T value) {
+        if (node == null || node.removed) throw new NoSuchElementException("Node is not in the heap");
+        if (value == null) throw new IllegalArgumentException("Can't add null value");
+        if (comparator.compare(value, node.value) > 0) {
+            throw new IllegalArgumentException("New value is greater than the current value");
+        }
+
+        node.value = value;
+        if (node == root) return;
+
+        // Cut the node's subtree out and link it with the root
+        if (node.prev.child == node) node.prev.child = node.sibling;
+        else node.prev.sibling = node.sibling;
+        if (node.sibling != null) node.sibling.prev = node.prev;
+        node.sibling = null;
+        node.prev = null;
+
+        root = link(root, node);
+    }
+
+    // Makes the larger of two roots the leftmost child of the smaller, O(1)
+    private Node<T> link(Node<T> a, Node<T> b) {
+        if (comparator.compare(b.value, a.value) < 0) {
+            Node<T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+
+        b.prev = a;
+        b.sibling = a.child;
+        if (a.child != null) a.child.prev = b;
+        a.child = b;
+        return a;
+    }
+
+    // Two pass pairing without recursion: link siblings in pairs from left to right,
+    // then fold the pairs into one tree from right to left
+    private Node<T> combineSiblings(Node<T> first) {
+        if (first == null) return null;
+
+        // First pass, the linked pairs are chained through sibling in reverse order
+        Node<T> pairs = null;
+        while (first != null) {
+            Node<T> a = first;
+            Node<T> b = a.sibling;
+            first = b == null ? null : b.sibling;
+
+            a.sibling = a.prev = null;
+            if (b != null) {
+                b.sibling = b.prev = null;
+                a = link(a, b);
+            }
+            a.sibling = pairs;
+            pairs = a;
+        }
+
+        // Second pass, starting from the rightmost pair
+        Node<T> result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null) {
+            Node<T> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+}
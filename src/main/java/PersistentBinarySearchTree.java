@@ -0,0 +1,284 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// BinarySearchTree whose nodes are never modified once built, so any version of
+// it can be read while newer versions are being written.
+//
+// insert and delete copy only the nodes on the path from the root to the change
+// and share every other subtree with the previous version, O(log(n)) new nodes
+// per write. The tree is balanced like AVLTree, so paths stay short even for
+// sorted input.
+//
+// snapshot() just hands out the current root, so it is O(1). Writes to the
+// snapshot and to this tree don't affect each other afterwards. Iterators also
+// walk the root they started from, so readers never need a lock and never see
+// a half done write.
+//
+// Writers publish a new root with a CAS and redo their write if another writer
+// got there first, so concurrent writers are safe too.
+public class PersistentBinarySearchTree implements Iterable<Double> {
+    private static final VarHandle ROOT;
+
+    static {
+        try {
+            ROOT = MethodHandles.lookup().findVarHandle(PersistentBinarySearchTree.class, "root", Node.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node root;
+
+    private static final class Node {
+        final double data;
+        final Node left;
+        final Node right;
+        final int height;
+        final int count;   // number of nodes in the subtree rooted here
+
+        Node(double data, Node left, Node right) {
+            this.data = data;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.count = count(left) + count(right) + 1;
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(data);
+        }
+    }
+
+    public PersistentBinarySearchTree() {
+    }
+
+    private PersistentBinarySearchTree(Node root) {
+        this.root = root;
+    }
+
+    // Frozen copy of the current version, O(1)
+    public PersistentBinarySearchTree snapshot() {
+        return new PersistentBinarySearchTree(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int getSize() {
+        return count(root);
+    }
+
+    public int getHeight() {
+        return height(root);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int count(Node node) {
+        return node == null ? 0 : node.count;
+    }
+
+    public Double getMinVal() {
+        Node node = root;
+        if(node == null) {
+            throw new RuntimeException("Tree is empty");
+        }
+        while(node.left != null) {
+            node = node.left;
+        }
+        return node.data;
+    }
+
+    public Double getMaxVal() {
+        Node node = root;
+        if(node == null) {
+            throw new RuntimeException("Tree is empty");
+        }
+        while(node.right != null) {
+            node = node.right;
+        }
+        return node.data;
+    }
+
+    public boolean search(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't search for NULL value");
+        }
+
+        Node node = root;
+        while(node != null) {
+            int cmp = Double.compare(data, node.data);
+            if(cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    // O(log(n))
+    public boolean insert(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't insert NULL value");
+        }
+
+        while(true) {
+            Node oldRoot = root;
+            Node newRoot = insertRec(oldRoot, data);
+            if(newRoot == oldRoot) {
+                return false;
+            }
+            if(ROOT.compareAndSet(this, oldRoot, newRoot)) {
+                return true;
+            }
+        }
+    }
+
+    // Returns node itself if data is already there, otherwise a copy of the path with data added
+    private Node insertRec(Node node, double data) {
+        if(node == null) {
+            return new Node(data, null, null);
+        }
+
+        int cmp = Double.compare(data, node.data);
+        if(cmp < 0) {
+            Node left = insertRec(node.left, data);
+            return left == node.left ? node : balance(node.data, left, node.right);
+        }
+        else if(cmp > 0) {
+            Node right = insertRec(node.right, data);
+            return right == node.right ? node : balance(node.data, node.left, right);
+        }
+        return node;
+    }
+
+    // O(log(n))
+    public boolean delete(Double data) {
+        if(data == null) {
+            throw new IllegalArgumentException("Can't accept NULL value as input");
+        }
+
+        while(true) {
+            Node oldRoot = root;
+            Node newRoot = deleteRec(oldRoot, data);
+            if(newRoot == oldRoot) {
+                return false;
+            }
+            if(ROOT.compareAndSet(this, oldRoot, newRoot)) {
+                return true;
+            }
+        }
+    }
+
+    // Returns node itself if data isn't there, otherwise a copy of the path without data
+    private Node deleteRec(Node node, double data) {
+        if(node == null) {
+            return null;
+        }
+
+        int cmp = Double.compare(data, node.data);
+        if(cmp < 0) {
+            Node left = deleteRec(node.left, data);
+            return left == node.left ? node : balance(node.data, left, node.right);
+        }
+        else if(cmp > 0) {
+            Node right = deleteRec(node.right, data);
+            return right == node.right ? node : balance(node.data, node.left, right);
+        }
+
+        if(node.left == null) {
+            return node.right;
+        }
+        if(node.right == null) {
+            return node.left;
+        }
+
+        // Two children, the in-order successor takes node's place
+        Node successor = node.right;
+        while(successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.data, node.left, deleteMin(node.right));
+    }
+
+    private Node deleteMin(Node node) {
+        if(node.left == null) {
+            return node.right;
+        }
+        return balance(node.data, deleteMin(node.left), node.right);
+    }
+
+    // Builds a node over left and right, rotating if their heights differ by two.
+    // Rotations build new nodes as well, the old ones may still be in use
+    private Node balance(double data, Node left, Node right) {
+        if(height(left) > height(right) + 1) {
+            if(height(left.left) < height(left.right)) {
+                left = rotateLeft(left.data, left.left, left.right);
+            }
+            return rotateRight(data, left, right);
+        }
+        if(height(right) > height(left) + 1) {
+            if(height(right.right) < height(right.left)) {
+                right = rotateRight(right.data, right.left, right.right);
+            }
+            return rotateLeft(data, left, right);
+        }
+        return new Node(data, left, right);
+    }
+
+    private Node rotateLeft(double data, Node left, Node right) {
+        return new Node(right.data, new Node(data, left, right.left), right.right);
+    }
+
+    private Node rotateRight(double data, Node left, Node right) {
+        return new Node(left.data, left.left, new Node(data, left.right, right));
+    }
+
+    // Walks the version that was current when it was created
+    @Override
+    public Iterator<Double> iterator() {
+        return new PersistentBinarySearchTreeIterator(root);
+    }
+
+    // Nodes have no parent links since they are shared between versions, so the
+    // path back up lives in an array sized to the tree's height
+    private static class PersistentBinarySearchTreeIterator implements Iterator<Double> {
+        private final Node[] stack;
+        private int top = 0;
+
+        PersistentBinarySearchTreeIterator(Node root) {
+            stack = new Node[height(root)];
+            pushAllLeftChildren(root);
+        }
+
+        private void pushAllLeftChildren(Node node) {
+            while(node != null) {
+                stack[top++] = node;
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        public Double next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            Node curr = stack[--top];
+            pushAllLeftChildren(curr.right);
+            return curr.data;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// BinarySearchTree of primitive double keys with no node objects. Node i is
+// keys[i] with links left[i], right[i] and parent[i] into the same arrays
+// (struct of arrays), NIL marking a missing link. A key costs 20 bytes instead
+// of a Node plus a boxed Double, and neighbouring nodes share cache lines.
+//
+// Deleted slots go on a free list, chained through left[], and are reused
+// before the arrays grow. Like BinarySearchTree the tree isn't balanced.
+public class PooledBinarySearchTree implements Iterable<Double> {
+    private static final int NIL = -1;
+
+    private double[] keys;
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int root = NIL;
+    private int size = 0;
+    private int used = 0;   // slots below used have been handed out at least once
+    private int free = NIL;   // head of the free list
+
+    public PooledBinarySearchTree() {
+        this(16);
+    }
+
+    public PooledBinarySearchTree(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be more than 0");
+        }
+
+        keys = new double[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // Takes a slot from the free list, or a fresh one, growing the pool if needed
+    private int allocate(double key, int parentNode) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        }
+        else {
+            if (used == keys.length) {
+                if (used + 1 > GrowthPolicy.MAX_CAPACITY) {
+                    throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+                }
+                int capacity = Math.max(GrowthPolicy.doubling().nextCapacity(used), used + 1);
+                keys = Arrays.copyOf(keys, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+            }
+            node = used++;
+        }
+
+        keys[node] = key;
+        left[node] = right[node] = NIL;
+        parent[node] = parentNode;
+        return node;
+    }
+
+    private void release(int node) {
+        left[node] = free;
+        free = node;
+    }
+
+    public double getMinVal() {
+        if (isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        return keys[minNode(root)];
+    }
+
+    public double getMaxVal() {
+        if (isEmpty()) {
+            throw new RuntimeException("Tree is empty");
+        }
+        int node = root;
+        while (right[node] != NIL) {
+            node = right[node];
+        }
+        return keys[node];
+    }
+
+    private int minNode(int node) {
+        while (left[node] != NIL) {
+            node = left[node];
+        }
+        return node;
+    }
+
+    // Keys are ordered by Double.compare, which agrees with Double.equals
+    private int find(double key) {
+        int node = root;
+        while (node != NIL) {
+            int cmp = Double.compare(key, keys[node]);
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? left[node] : right[node];
+        }
+        return NIL;
+    }
+
+    public boolean search(double key) {
+        return find(key) != NIL;
+    }
+
+    // Returns false if key is already in the tree
+    public boolean insert(double key) {
+        if (root == NIL) {
+            root = allocate(key, NIL);
+            size++;
+            return true;
+        }
+
+        int node = root;
+        while (true) {
+            int cmp = Double.compare(key, keys[node]);
+            if (cmp == 0) {
+                return false;
+            }
+
+            int next = cmp < 0 ? left[node] : right[node];
+            if (next == NIL) {
+                int child = allocate(key, node);
+                if (cmp < 0) left[node] = child;
+                else right[node] = child;
+                break;
+            }
+            node = next;
+        }
+
+        size++;
+        return true;
+    }
+
+    // Returns false if key isn't in the tree
+    public boolean delete(double key) {
+        int node = find(key);
+        if (node == NIL) {
+            return false;
+        }
+
+        if (left[node] != NIL && right[node] != NIL) {
+            // Move the in-order successor's key up and unlink the successor instead,
+            // it has no left child so it falls into the single child case below
+            int successor = minNode(right[node]);
+            keys[node] = keys[successor];
+            node = successor;
+        }
+
+        int child = left[node] != NIL ? left[node] : right[node];
+        replaceChild(parent[node], node, child);
+        release(node);
+
+        size--;
+        return true;
+    }
+
+    // Puts child in place of node under parentNode, NIL parentNode means node is the root
+    private void replaceChild(int parentNode, int node, int child) {
+        if (child != NIL) {
+            parent[child] = parentNode;
+        }
+
+        if (parentNode == NIL) {
+            root = child;
+        }
+        else if (left[parentNode] == node) {
+            left[parentNode] = child;
+        }
+        else {
+            right[parentNode] = child;
+        }
+    }
+
+    // Removes every key and returns all slots to the pool, O(1)
+    public void clear() {
+        root = free = NIL;
+        size = used = 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PooledBinarySearchTreeIterator();
+    }
+
+    // In-order walk through parent links, use nextDouble() to iterate without boxing
+    private class PooledBinarySearchTreeIterator implements PrimitiveIterator.OfDouble {
+        private int next = root == NIL ? NIL : minNode(root);
+
+        @Override
+        public boolean hasNext() {
+            return next != NIL;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (next == NIL) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            int curr = next;
+            if (right[curr] != NIL) {
+                next = minNode(right[curr]);
+            }
+            else {
+                int child = curr;
+                next = parent[curr];
+                while (next != NIL && right[next] == child) {
+                    child = next;
+                    next = parent[next];
+                }
+            }
+            return keys[curr];
+        }
+    }
+}
@@ -1,54 +1,108 @@
 import java.util.*;
+import java.util.function.Consumer;
 
-public class PriorityQueue <T extends Comparable> {
+public class PriorityQueue <T> implements MinPriorityQueue<T> {
     private List<T> heap = null;
     
+    // Indices of every element for O(1) contains and O(log(n)) remove. Bounded
+    // queues leave it null, top-k only offers and polls so the map would cost
+    // a TreeSet update per swap for nothing
     private Map<T, TreeSet<Integer>> map = new HashMap<>();
     
-    public PriorityQueue() {
-        this(1);
+    // Elements are ordered by their natural ordering unless a comparator is given,
+    // in which case they don't need to be Comparable
+    private final Comparator<? super T> comparator;
+    
+    // Bounded queues hold at most this many elements, see bounded()
+    private int maxSize = Integer.MAX_VALUE;
+    
+    public PriorityQueue(Comparator<? super T> comparator) {
+        this(1, comparator);
     }
     
-    public PriorityQueue(int size) {
+    public PriorityQueue(int size, Comparator<? super T> comparator) {
+        if(comparator == null) throw new IllegalArgumentException("Comparator can't be null");
+        
         heap = new ArrayList<>(size);
+        this.comparator = comparator;
+    }
+
+    // Creates a queue that keeps the k greatest elements offered to it, for top-k
+    // over a stream. The root is the smallest of them, so a new element is either
+    // rejected after one comparison or replaces the root. Memory stays O(k).
+    // Pass a reversed comparator to keep the k smallest instead.
+    public static <T> PriorityQueue<T> bounded(int k, Comparator<? super T> comparator) {
+        if(k <= 0) throw new IllegalArgumentException("Bound should be more than 0");
+        
+        PriorityQueue<T> pq = new PriorityQueue<>(k, comparator);
+        pq.maxSize = k;
+        pq.map = null;
+        return pq;
+    }
+    
+    public static <T extends Comparable<? super T>> PriorityQueue<T> bounded(int k) {
+        return bounded(k, Comparator.naturalOrder());
+    }
+
+    // Natural ordering goes through these factories rather than constructors,
+    // so only Comparable element types compile
+    public static <T extends Comparable<? super T>> PriorityQueue<T> create() {
+        return create(1);
+    }
+    
+    public static <T extends Comparable<? super T>> PriorityQueue<T> create(int size) {
+        return new PriorityQueue<>(size, Comparator.naturalOrder());
+    }
+    
+    public static <T extends Comparable<? super T>> PriorityQueue<T> from(T[] elems) {
+        return new PriorityQueue<>(elems, Comparator.naturalOrder());
+    }
+    
+    public static <T extends Comparable<? super T>> PriorityQueue<T> from(Collection<? extends T> elems) {
+        return new PriorityQueue<>(elems, Comparator.naturalOrder());
     }
 
     // Construct a priority queue using heapify in O(n) time
-    public PriorityQueue(T[] elems) {
+    public PriorityQueue(T[] elems, Comparator<? super T> comparator) {
+        this(elems.length, comparator);
         int size = elems.length;
-        heap = new ArrayList<>(size);
         
         for(int i=0; i<size; i++) {
+            if(elems[i] == null) throw new IllegalArgumentException("Can't add null value");
             heap.add(elems[i]);
             mapAdd(elems[i], i);
         }
         
         // Heapify
-        for(int i=Math.max(0, size/2-1); i>=0; i--) swim(i);
+        for(int i=Math.max(0, size/2-1); i>=0; i--) sink(i);
     }
 
-    // Priority queue construction, O(nlog(n))
-    public PriorityQueue(Collection<T> elems) {
-        this(elems.size());
-        for (T elem : elems) add(elem);
+    // Priority queue construction using heapify in O(n) time
+    public PriorityQueue(Collection<? extends T> elems, Comparator<? super T> comparator) {
+        this(elems.size(), comparator);
+        addAll(elems);
     }
     
+    @Override
     public int getSize() {
         return heap.size();
     }
     
+    @Override
     public boolean isEmpty() {
         return getSize() == 0;
     }
 
     // Clears everything inside the heap, O(n)
+    @Override
     public void clear() {
         heap.clear();
-        map.clear();
+        if(map != null) map.clear();
     }
 
     // Add a node value and its index to the map
     private void mapAdd(T value, int index) {
+        if(map == null) return;
         TreeSet<Integer> set = map.get(value);
         
         if(set == null) {
@@ -63,19 +117,27 @@ public class PriorityQueue <T extends Comparable> {
 
     // Removes the index at a given value, O(log(n))
     private void mapRemove(T value, int lastElemIndex) {
+        if(map == null) return;
         TreeSet<Integer> set = map.get(value);
         set.remove(lastElemIndex);
         
         if(set.isEmpty()) map.remove(value);
     }
 
-    // Extract an index position for the given value
+    // Extract an index position for the given value, -1 if it isn't there
     // NOTE: If a value exists multiple times in the heap the lowest
     // index is returned (this has arbitrarily been chosen)
     private int mapGet(T obj) {
-        TreeSet<Integer> set = map.get(obj);
+        if(map == null) {
+            // Bounded queue, linear scan, O(n)
+            for(int i=0; i<getSize(); i++) {
+                if(heap.get(i).equals(obj)) return i;
+            }
+            return -1;
+        }
         
-        return set.first();
+        TreeSet<Integer> set = map.get(obj);
+        return set == null ? -1 : set.first();
     }
 
     // Swap two nodes. Assumes i & j are valid, O(1)
@@ -91,6 +153,7 @@ public class PriorityQueue <T extends Comparable> {
 
     // Exchange the index of two nodes internally within the map
     private void mapSwap(T x, T y, int i, int j) {
+        if(map == null) return;
         TreeSet<Integer> set1 = map.get(x);
         TreeSet<Integer> set2 = map.get(y);
         
@@ -107,7 +170,7 @@ public class PriorityQueue <T extends Comparable> {
         T obj1 = heap.get(i);
         T obj2 = heap.get(j);
 
-        return obj1.compareTo(obj2) <= 0;
+        return comparator.compare(obj1, obj2) <= 0;
     }
 
     // Top down node sink, O(log(n))
@@ -124,7 +187,7 @@ public class PriorityQueue <T extends Comparable> {
             if(right < size && isLess(right, left)) smallest = right;   // store right child as smallest
             
             // break if element at index is smaller than smallest otherwise swap
-            if(index < smallest) break;
+            if(isLess(index, smallest)) break;
             else {
                 swap(index, smallest);
                 index = smallest;
@@ -145,22 +208,16 @@ public class PriorityQueue <T extends Comparable> {
         }
     }
 
-    // Test if an element is in heap, O(1)
+    // Test if an element is in heap, O(1), O(n) for bounded queues
     public boolean contains(T elem) {
-        // Map lookup to check containment, O(1)
         if (elem == null) return false;
-        return map.containsKey(elem);
-
-        // Linear scan to check containment, O(n)
-        // for(int i = 0; i < heapSize; i++)
-        //   if (heap.get(i).equals(elem))
-        //     return true;
-        // return false;
+        return mapGet(elem) != -1;
     }
 
     // Returns the value of the element with the lowest
     // priority in this priority queue. If the priority
     // queue is empty null is returned.
+    @Override
     public T peek() {
         if (isEmpty()) return null;
         return heap.getFirst();
@@ -168,18 +225,89 @@ public class PriorityQueue <T extends Comparable> {
 
     // Adds an element to the priority queue, the
     // element must not be null, O(log(n))
+    @Override
     public void add(T obj) {
         if(obj == null) throw new IllegalArgumentException("Can't add null value");
+        if(getSize() == maxSize) throw new IllegalStateException("Bounded queue is full");
         
         heap.add(obj);
         int lastElemIndex = getSize() - 1;
+        mapAdd(obj, lastElemIndex);
         swim(lastElemIndex);
     }
 
+    // Adds every element of the batch. Adding k elements one by one costs
+    // O(klog(n+k)) while appending them all and heapifying the whole array
+    // costs O(n+k), so the cheaper of the two is used
+    public void addAll(Collection<? extends T> elems) {
+        for (T elem : elems) {
+            if(elem == null) throw new IllegalArgumentException("Can't add null value");
+        }
+        if(maxSize != Integer.MAX_VALUE) {
+            for (T elem : elems) offer(elem);
+            return;
+        }
+        
+        int batchSize = elems.size();
+        int newSize = getSize() + batchSize;
+        int log = 32 - Integer.numberOfLeadingZeros(newSize);
+        if((long) batchSize * log <= newSize) {
+            for (T elem : elems) add(elem);
+            return;
+        }
+        
+        for (T elem : elems) {
+            heap.add(elem);
+            mapAdd(elem, getSize() - 1);
+        }
+        
+        // Heapify
+        for(int i=Math.max(0, newSize/2-1); i>=0; i--) sink(i);
+    }
+
+    // Adds an element unless the queue is bounded and full. A full bounded queue
+    // keeps obj only if it is greater than the root, which it replaces in place
+    // with a single sink, O(log(k)). Otherwise obj is rejected in O(1).
+    // Bounded queues have no index map, so the sink only moves heap slots.
+    // Returns whether obj was kept.
+    public boolean offer(T obj) {
+        if(obj == null) throw new IllegalArgumentException("Can't add null value");
+        
+        if(getSize() < maxSize) {
+            add(obj);
+            return true;
+        }
+        
+        T root = heap.getFirst();
+        if(comparator.compare(obj, root) <= 0) return false;
+        
+        heap.set(0, obj);
+        sink(0);
+        return true;
+    }
+
     // Removes the root of the heap, O(log(n))
+    @Override
     public T poll() {
         return removeAt(0);
     }
+    
+    // Polls up to k elements in priority order and hands each to action,
+    // returns how many were polled, O(klog(n))
+    public int pollN(int k, Consumer<? super T> action) {
+        if(k < 0) throw new IllegalArgumentException("Can't poll a negative number of elements");
+        
+        int count = Math.min(k, getSize());
+        for(int i=0; i<count; i++) {
+            action.accept(poll());
+        }
+        return count;
+    }
+    
+    // Moves up to max elements in priority order into target, returns how many were moved
+    public int drainTo(Collection<? super T> target, int max) {
+        return pollN(max, target::add);
+    }
 
     // Removes a node at particular index, O(log(n))
     public T removeAt(int index) {
@@ -189,14 +317,24 @@ public class PriorityQueue <T extends Comparable> {
         swap(index, lastElemIndex);
         T removed = heap.remove(lastElemIndex);
         mapRemove(removed, lastElemIndex);
+        if(index == lastElemIndex) return removed;
+
+        // The swapped in element may belong above or below index
+        T elem = heap.get(index);
         sink(index);
+        if(heap.get(index).equals(elem)) swim(index);
 
         return removed;
     }
 
-    // Removes a particular element in the heap, O(log(n))
+    // Removes a particular element in the heap, O(log(n)), O(n) for bounded queues
     public boolean remove(T obj) {
-        return removeAt(mapGet(obj)) != null;
+        if(obj == null) return false;
+        int index = mapGet(obj);
+        if(index == -1) return false;
+        
+        removeAt(index);
+        return true;
     }
 
     // Recursively checks if this heap is a min heap
@@ -0,0 +1,134 @@
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+// Monotone priority queue for integer keys, such as distances in Dijkstra: a key
+// can't be added once a larger key has been peeked or polled.
+//
+// Elements are kept in 65 buckets by the highest bit in which their key differs
+// from the last polled key, bucket 0 holding keys equal to it. When bucket 0 runs
+// dry the first non empty bucket is redistributed around its minimum, and every
+// element moves to a lower bucket each time, so poll is amortized O(log(C)) where
+// C is the key range, with no comparisons between elements outside that scan.
+public class RadixHeap<T> implements MinPriorityQueue<T> {
+    private static final int BUCKETS = 65;
+
+    private final ToLongFunction<? super T> keyFunction;
+    private final LongDynamicArray[] keys = new LongDynamicArray[BUCKETS];
+    private final DynamicArray<T>[] values;
+    private long last = Long.MIN_VALUE;   // last peeked or polled key, every key in the heap is >= last
+    private int size = 0;
+
+    public RadixHeap(ToLongFunction<? super T> keyFunction) {
+        if (keyFunction == null) throw new IllegalArgumentException("Key function can't be null");
+
+        this.keyFunction = keyFunction;
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        DynamicArray<T>[] newValues = new DynamicArray[BUCKETS];   // no generic array creation
+        values = newValues;
+        for (int i = 0; i < BUCKETS; i++) {
+            keys[i] = new LongDynamicArray(4);
+            values[i] = new DynamicArray<>(4);
+        }
+    }
+
+    // Heap of plain long keys
+    public static RadixHeap<Long> ofLongs() {
+        return new RadixHeap<>(Long::longValue);
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Empties the heap and lets it accept any key again, O(n)
+    @Override
+    public void clear() {
+        for (int i = 0; i < BUCKETS; i++) {
+            keys[i].clear();
+            values[i].clear();
+        }
+        last = Long.MIN_VALUE;
+        size = 0;
+    }
+
+    // Keys differing from last first at bit b go to bucket b + 1. Comparing with xor
+    // is the same for signed keys as for sign flipped unsigned ones, so negative
+    // keys work too.
+    private int bucket(long key) {
+        return 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    // Adds an element, its key must be >= the last peeked or polled key, O(1)
+    @Override
+    public void add(T obj) {
+        if (obj == null) throw new IllegalArgumentException("Can't add null value");
+
+        long key = keyFunction.applyAsLong(obj);
+        if (key < last) {
+            throw new IllegalArgumentException("Key is smaller than the last peeked or polled key");
+        }
+
+        int bucket = bucket(key);
+        keys[bucket].push(key);
+        values[bucket].push(obj);
+        size++;
+    }
+
+    // Makes sure bucket 0 holds the minimum, redistributing the first non empty bucket if needed
+    private void refill() {
+        if (keys[0].size() > 0) return;
+
+        int i = 1;
+        while (keys[i].size() == 0) i++;
+
+        LongDynamicArray bucketKeys = keys[i];
+        DynamicArray<T> bucketValues = values[i];
+        long min = bucketKeys.get(0);
+        for (int j = 1; j < bucketKeys.size(); j++) {
+            min = Math.min(min, bucketKeys.get(j));
+        }
+
+        last = min;
+        for (int j = 0; j < bucketKeys.size(); j++) {
+            long key = bucketKeys.get(j);
+            int bucket = bucket(key);
+            keys[bucket].push(key);
+            values[bucket].push(bucketValues.get(j));
+        }
+        bucketKeys.clear();
+        bucketValues.clear();
+    }
+
+    @Override
+    public T peek() {
+        if (isEmpty()) return null;
+
+        refill();
+        return values[0].get(values[0].size() - 1);
+    }
+
+    // Key of the element peek and poll return
+    public long peekKey() {
+        if (isEmpty()) throw new NoSuchElementException("Priority queue is empty");
+
+        refill();
+        return last;
+    }
+
+    // Removes an element with the smallest key, amortized O(log(C))
+    @Override
+    public T poll() {
+        if (isEmpty()) throw new NoSuchElementException("Can't remove from an empty queue");
+
+        refill();
+        keys[0].pop();
+        size--;
+        return values[0].pop();
+    }
+}
@@ -0,0 +1,161 @@
+import java.lang.foreign.MemorySegment;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// DynamicArray of fixed-width elements stored in a MemorySegment. Subclasses decide
+// where the memory comes from by allocating it in resize() and freeing it in release().
+abstract class SegmentDynamicArray<T> implements Iterable<T>, AutoCloseable {
+    final ElementLayout<T> layout;
+    final long elementSize;
+    private final GrowthPolicy growthPolicy;
+    MemorySegment segment;   // holds exactly capacity elements, null once closed
+    int length = 0;  // length user thinks the dynamic array is
+    int capacity;   // number of elements segment has room for
+
+    SegmentDynamicArray(ElementLayout<T> layout, GrowthPolicy growthPolicy) {
+        if (layout == null || growthPolicy == null) {
+            throw new IllegalArgumentException("Layout and growth policy can't be NULL");
+        }
+
+        this.layout = layout;
+        this.elementSize = layout.byteSize();
+        this.growthPolicy = growthPolicy;
+    }
+
+    // Moves the first length elements to a segment of newCapacity elements and
+    // updates segment and capacity, O(n) at worst
+    abstract void resize(int newCapacity);
+
+    // Frees the memory behind segment
+    abstract void release();
+
+    // Called whenever length changes
+    void lengthChanged() {
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    void checkOpen() {
+        if (segment == null) {
+            throw new IllegalStateException("Dynamic array is closed");
+        }
+    }
+
+    private void checkIndex(int i) {
+        checkOpen();
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Negative Index entered");
+        }
+        else if (i >= length) {
+            throw new NoSuchElementException("No Element exists at this index");
+        }
+    }
+
+    public T get(int i) {
+        checkIndex(i);
+        return layout.read(segment, i * elementSize);
+    }
+
+    public void set(int i, T n) {
+        checkIndex(i);
+        layout.write(segment, i * elementSize, n);
+    }
+
+    // Only resets the length, the memory is reused by later pushes
+    public void clear() {
+        checkOpen();
+        length = 0;
+        lengthChanged();
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        checkOpen();
+        if (minCapacity > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        if (minCapacity > capacity) {
+            resize(Math.max(growthPolicy.nextCapacity(capacity), minCapacity));
+        }
+    }
+
+    public void trimToSize() {
+        checkOpen();
+        if (length < capacity) {
+            resize(Math.max(length, 1));
+        }
+    }
+
+    public void push(T n) {
+        checkOpen();
+        if (length == capacity) {
+            ensureCapacity(length + 1);
+        }
+
+        layout.write(segment, length * elementSize, n);
+        length++;
+        lengthChanged();
+    }
+
+    public T pop() {
+        checkOpen();
+        if (length == 0) {
+            throw new NoSuchElementException("Cannot pop from an empty dynamic array");
+        }
+
+        length--;
+        lengthChanged();
+        return layout.read(segment, length * elementSize);
+    }
+
+    // Shifts the tail left by one element in place, O(n)
+    public T removeAt(int index) {
+        checkIndex(index);
+
+        T removedElement = layout.read(segment, index * elementSize);
+        MemorySegment.copy(segment, (index + 1) * elementSize,
+                segment, index * elementSize, (length - index - 1) * elementSize);
+        length--;
+        lengthChanged();
+        return removedElement;
+    }
+
+    // Frees the memory, calling it again does nothing
+    @Override
+    public void close() {
+        if (segment != null) {
+            release();
+            segment = null;
+            length = 0;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new SegmentDynamicArrayIterator();
+    }
+
+    private class SegmentDynamicArrayIterator implements Iterator<T> {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No element exists on next index");
+            }
+
+            return get(currentIndex++);
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -5,6 +6,7 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     private int size = 0;
     private Node<T> head = null;
     private Node<T> tail = null;
+    private int modCount = 0;   // bumped by every add and remove, iterators use it to fail fast
 
     private class Node<T> {
         T data;
@@ -33,6 +35,7 @@ public class SinglyLinkedList<T> implements Iterable<T> {
         }
         size = 0;
         head = tail = null;
+        modCount++;
     }
 
     public int getSize() {
@@ -52,16 +55,19 @@ public class SinglyLinkedList<T> implements Iterable<T> {
             head = node;
         }
         size++;
+        modCount++;
     }
 
     public void addLast(T obj) {
         Node<T> node = new Node<T>(obj);
         if (this.isEmpty()) {
             head = tail = node;
+        } else {
+            tail.next = node;
+            tail = node;
         }
-        tail.next = node;
-        tail = node;
         size++;
+        modCount++;
     }
 
     public T removeFirst() {
@@ -69,10 +75,16 @@ public class SinglyLinkedList<T> implements Iterable<T> {
             throw new RuntimeException("Can't remove from an empty linked list");
         }
 
-        head.data = null;
-        head = head.next;
-        T removed = head.data;
+        Node<T> first = head;
+        T removed = first.data;
+        head = first.next;
+        if (head == null) {
+            tail = null;
+        }
+        first.data = null;
+        first.next = null;
         size--;
+        modCount++;
         return removed;
     }
 
@@ -81,41 +93,50 @@ public class SinglyLinkedList<T> implements Iterable<T> {
             throw new RuntimeException("Can't remove from an empty linked list");
         }
 
+        if (head == tail) {
+            return removeFirst();
+        }
+
         Node<T> traverse = head;
-        T removed = null;
-        while (traverse != null) {
-            if (traverse.next == tail) {
-                traverse.next = null;
-                tail.data = null;
-                tail = traverse;
-                removed = tail.data;
-                break;
-            }
+        while (traverse.next != tail) {
             traverse = traverse.next;
         }
+        T removed = tail.data;
+        tail.data = null;
+        traverse.next = null;
+        tail = traverse;
         size--;
+        modCount++;
         return removed;
     }
 
     private boolean removeNode(Node<T> node) {
         if (this.isEmpty()) {
             throw new RuntimeException("Can't remove from an empty linked list");
-        } else if (head == node) removeFirst();
+        } else if (head == node) {
+            removeFirst();
+            return true;
+        }
 
-        else if (tail == node) removeLast();
+        Node<T> traverse = head;
+        while (traverse.next != node) {
+            traverse = traverse.next;
+        }
+        unlinkAfter(traverse);
+        return true;
+    }
 
-        else {
-            Node<T> traverse = head;
-            while (traverse != null) {
-                if (traverse.next == node) {
-                    traverse.next = node.next;
-                    break;
-                }
-                traverse = traverse.next;
-            }
+    // Unlinks the node after prev, O(1)
+    private void unlinkAfter(Node<T> prev) {
+        Node<T> node = prev.next;
+        prev.next = node.next;
+        if (tail == node) {
+            tail = prev;
         }
+        node.data = null;
+        node.next = null;
         size--;
-        return true;
+        modCount++;
     }
 
     public boolean remove(T obj) {
@@ -135,7 +156,7 @@ public class SinglyLinkedList<T> implements Iterable<T> {
             throw new IndexOutOfBoundsException("Invalid index");
         }
         Node<T> trav = head;
-        while (index > 0) {
+        while (index > 1) {
             trav = trav.next;
             index--;
         }
@@ -165,23 +186,53 @@ public class SinglyLinkedList<T> implements Iterable<T> {
         return indexOf(obj) != -1;
     }
 
+    // Fails fast: throws ConcurrentModificationException on the first next() after
+    // the list is changed other than through the iterator, one field compare per element
     @Override
     public Iterator<T> iterator() {
         return new Iterator<T>() {
-            Node<T> currNode = head;
+            Node<T> nextNode = head;
+            Node<T> lastReturned = null;
+            Node<T> beforeLast = null;   // node before lastReturned, kept so remove() is O(1)
+            int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
-                return currNode.next != null;
+                return nextNode != null;
             }
 
             @Override
             public T next() {
-                if (!hasNext()) {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (nextNode == null) {
                     throw new NoSuchElementException("No element exists on next index");
                 }
-                currNode = currNode.next;
-                return currNode.data;
+                if (lastReturned != null) {
+                    beforeLast = lastReturned;
+                }
+                lastReturned = nextNode;
+                nextNode = nextNode.next;
+                return lastReturned.data;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException("next() hasn't been called since the last remove()");
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                if (beforeLast == null) {
+                    removeFirst();
+                } else {
+                    unlinkAfter(beforeLast);
+                }
+                lastReturned = null;
+                expectedModCount = modCount;
             }
         };
     }
@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AVLTreeTest {
+    @Test
+    void testSortedInsertStaysBalanced() {
+        var tree = new AVLTree();
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            tree.insert((double) i);
+        }
+
+        assertEquals(n, tree.getSize());
+        assertTrue(tree.getHeight() <= 1.45 * (Math.log(n) / Math.log(2)), "Tree is not balanced");
+        assertTrue(tree.search(54_321.0));
+        assertEquals(0.0, tree.getMinVal());
+        assertEquals(n - 1.0, tree.getMaxVal());
+    }
+
+    @Test
+    void testInsertDuplicates() {
+        var tree = new AVLTree(10.0);
+        assertFalse(tree.insert(10.0));
+        assertEquals(1, tree.getSize());
+    }
+
+    @Test
+    void testRandomOperationsMatchTreeSet() {
+        var tree = new AVLTree();
+        var expected = new TreeSet<Double>();
+        var random = new Random(17);
+        for (int i = 0; i < 20_000; i++) {
+            double key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), tree.insert(key));
+            }
+            else {
+                assertEquals(expected.remove(key), tree.delete(key));
+            }
+        }
+
+        assertEquals(expected.size(), tree.getSize());
+        assertTrue(tree.getHeight() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)), "Tree is not balanced");
+        Iterator<Double> it = tree.iterator();
+        for (double key : expected) {
+            assertEquals(key, it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testDeleteUntilEmpty() {
+        var tree = new AVLTree();
+        for (int i = 0; i < 100; i++) {
+            tree.insert((double) i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(tree.delete((double) i));
+        }
+
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.getHeight());
+        assertFalse(tree.delete(1.0));
+        assertThrows(RuntimeException.class, tree::getMinVal);
+    }
+}
@@ -0,0 +1,71 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BPlusTreeTest {
+    @Test
+    void testRandomOperationsMatchTreeSet() {
+        for (int fanOut : new int[] {4, 5, 16}) {
+            var tree = new BPlusTree(fanOut);
+            var expected = new TreeSet<Double>();
+            var random = new Random(fanOut);
+            for (int i = 0; i < 30_000; i++) {
+                double key = random.nextInt(3_000);
+                if (random.nextBoolean()) {
+                    assertEquals(expected.add(key), tree.insert(key), "insert, fanOut=" + fanOut);
+                }
+                else {
+                    assertEquals(expected.remove(key), tree.delete(key), "delete, fanOut=" + fanOut);
+                }
+            }
+
+            assertEquals(expected.size(), tree.getSize());
+            assertEquals(expected.first(), tree.getMinVal());
+            assertEquals(expected.last(), tree.getMaxVal());
+            PrimitiveIterator.OfDouble it = tree.iterator();
+            for (double key : expected) {
+                assertEquals(key, it.nextDouble(), "Leaf chain out of order, fanOut=" + fanOut);
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    void testRangeIterator() {
+        var tree = new BPlusTree(4);
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i * 2.0);
+        }
+
+        PrimitiveIterator.OfDouble it = tree.rangeIterator(13, 21);
+        assertEquals(14.0, it.nextDouble(), "Range should start at the first key >= lo");
+        assertEquals(16.0, it.nextDouble());
+        assertEquals(18.0, it.nextDouble());
+        assertEquals(20.0, it.nextDouble());
+        assertFalse(it.hasNext(), "Range should stop at hi");
+
+        assertFalse(tree.rangeIterator(500, 600).hasNext());
+        assertFalse(new BPlusTree().rangeIterator(0, 1).hasNext());
+    }
+
+    @Test
+    void testDeleteUntilEmpty() {
+        var tree = new BPlusTree(4);
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i);
+        }
+        for (int i = 999; i >= 0; i--) {
+            assertTrue(tree.delete(i));
+            assertFalse(tree.search(i));
+        }
+
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.iterator().hasNext());
+        assertThrows(RuntimeException.class, tree::getMinVal);
+        assertTrue(tree.insert(1.0), "Tree should be usable again after emptying");
+    }
+}
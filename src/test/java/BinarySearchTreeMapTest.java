@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySearchTreeMapTest {
+    @Test
+    void putGetRemoveTest() {
+        var map = BinarySearchTreeMap.<String, Integer>create();
+        assertNull(map.put("m", 1));
+        assertNull(map.put("c", 2));
+        assertNull(map.put("x", 3));
+        assertNull(map.put("a", 4));
+        assertEquals(2, map.put("c", 5), "Replaced value is returned");
+
+        assertEquals(4, map.getSize());
+        assertEquals(5, map.get("c"));
+        assertNull(map.get("b"));
+        assertEquals("a", map.firstKey());
+        assertEquals("x", map.lastKey());
+
+        assertEquals(1, map.remove("m"), "Root with two children");
+        assertNull(map.remove("m"));
+        assertEquals(3, map.getSize());
+        assertFalse(map.containsKey("m"));
+        assertEquals(3, map.get("x"));
+
+        map.clear();
+        assertThrows(NoSuchElementException.class, map::firstKey, "Map is empty");
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1), "NULL key");
+        assertThrows(IllegalArgumentException.class, () -> map.put("a", null), "NULL value");
+    }
+
+    @Test
+    void computeIfAbsentTest() {
+        var map = BinarySearchTreeMap.<Integer, List<Integer>>create();
+        for (int i = 0; i < 20; i++) {
+            map.computeIfAbsent(i % 3, k -> new ArrayList<>()).add(i);
+        }
+        assertEquals(3, map.getSize());
+        assertEquals(7, map.get(0).size());
+
+        assertNull(map.computeIfAbsent(5, k -> null), "NULL result maps nothing");
+        assertThrows(IllegalStateException.class,
+                () -> map.computeIfAbsent(6, k -> { throw new IllegalStateException(); }));
+        assertEquals(3, map.getSize());
+        assertFalse(map.containsKey(5));
+        assertFalse(map.containsKey(6));
+    }
+
+    @Test
+    void comparatorOrderTest() {
+        var map = new BinarySearchTreeMap<Integer, String>(Comparator.reverseOrder());
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "v" + i);
+        }
+
+        var keys = new ArrayList<Integer>();
+        map.forEach((key, value) -> {
+            assertEquals("v" + key, value);
+            keys.add(key);
+        });
+        assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), keys);
+    }
+
+    @Test
+    void doubleKeysTest() {
+        var map = new DoubleBinarySearchTreeMap<String>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i * 7 % 100 + 0.5, "v" + i);
+        }
+        assertEquals(100, map.getSize());
+        assertEquals(0.5, map.firstKey());
+        assertEquals(99.5, map.lastKey());
+        assertEquals("v1", map.get(7.5));
+
+        for (int i = 0; i < 100; i += 2) {
+            assertNotNull(map.remove(i + 0.5));
+        }
+        assertEquals(50, map.getSize());
+        assertEquals("new", map.computeIfAbsent(2.5, k -> "new"));
+
+        double[] prev = {Double.NEGATIVE_INFINITY};
+        map.forEach((key, value) -> {
+            assertTrue(key > prev[0], "Keys out of order");
+            prev[0] = key;
+        });
+    }
+}
@@ -1,7 +1,16 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,4 +116,299 @@ class BinarySearchTreeTest {
         assertEquals(15.0, it.next());
         assertFalse(it.hasNext());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeleteRoot() {
+        bst.insert(10.0);
+        assertTrue(bst.delete(10.0));
+        assertTrue(bst.isEmpty());
+        assertFalse(bst.search(10.0));
+
+        bst.insert(10.0);
+        bst.insert(5.0);
+        assertTrue(bst.delete(10.0)); // Root with one child
+        assertEquals(5.0, bst.getMinVal());
+        assertEquals(1, bst.getSize());
+    }
+
+    @Test
+    void testDeleteKeepsSuccessorSubtree() {
+        bst.insert(10.0);
+        bst.insert(5.0);
+        bst.insert(15.0);
+        bst.insert(12.0);
+        bst.insert(13.0);
+        assertTrue(bst.delete(10.0)); // Successor 12 has a right child
+        assertTrue(bst.search(13.0));
+
+        Iterator<Double> it = bst.iterator();
+        assertEquals(5.0, it.next());
+        assertEquals(12.0, it.next());
+        assertEquals(13.0, it.next());
+        assertEquals(15.0, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testFloorCeilingLowerHigher() {
+        for (double key : new double[] {10.0, 5.0, 15.0, 12.0, 20.0}) {
+            bst.insert(key);
+        }
+
+        assertEquals(12.0, bst.floor(13.0));
+        assertEquals(12.0, bst.floor(12.0));
+        assertEquals(10.0, bst.lower(12.0));
+        assertNull(bst.floor(4.0));
+        assertEquals(15.0, bst.ceiling(13.0));
+        assertEquals(15.0, bst.ceiling(15.0));
+        assertEquals(20.0, bst.higher(15.0));
+        assertNull(bst.higher(20.0));
+    }
+
+    @Test
+    void testRankAndSelect() {
+        double[] keys = {50.0, 30.0, 70.0, 20.0, 40.0, 60.0, 80.0, 35.0};
+        for (double key : keys) {
+            bst.insert(key);
+        }
+        bst.delete(30.0);   // two children, counts must follow the successor splice
+
+        double[] sorted = {20.0, 35.0, 40.0, 50.0, 60.0, 70.0, 80.0};
+        for (int k = 0; k < sorted.length; k++) {
+            assertEquals(sorted[k], bst.select(k), "select(" + k + ")");
+            assertEquals(k, bst.rank(sorted[k]), "rank(" + sorted[k] + ")");
+        }
+        assertEquals(3, bst.rank(45.0));
+        assertEquals(4, bst.rangeCount(35.0, 60.0));
+        assertEquals(0, bst.rangeCount(61.0, 69.0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> bst.select(-1), "Given index is negative");
+        assertThrows(NoSuchElementException.class, () -> bst.select(7), "Given index is equal to size of tree");
+    }
+
+    @Test
+    void testRangeIterator() {
+        for (int i = 0; i < 20; i++) {
+            bst.insert((double) (i * 7 % 20));
+        }
+
+        Iterator<Double> it = bst.rangeIterator(4.5, 8.0);
+        assertEquals(5.0, it.next());
+        assertEquals(6.0, it.next());
+        assertEquals(7.0, it.next());
+        assertEquals(8.0, it.next());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testGetMaxValDeepRightSubtree() {
+        bst.insert(10.0);
+        bst.insert(15.0);
+        bst.insert(12.0);
+        bst.insert(20.0);
+        assertEquals(20.0, bst.getMaxVal());
+    }
+
+    @Test
+    void testFromSorted() {
+        double[] keys = new double[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        BinarySearchTree tree = BinarySearchTree.fromSorted(keys);
+
+        assertEquals(1000, tree.getSize());
+        assertEquals(0.0, tree.getMinVal());
+        assertEquals(999.0, tree.getMaxVal());
+        assertEquals(500.0, tree.select(500));
+        assertTrue(tree.delete(500.0));
+        assertTrue(tree.insert(500.5));
+        assertEquals(500.5, tree.select(500));
+
+        BinarySearchTree fromIterable = BinarySearchTree.fromSorted(List.of(1.0, 2.0, 2.0, 3.0));
+        assertEquals(3, fromIterable.getSize(), "Duplicates are kept once");
+
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(new double[] {2.0, 1.0}), "Keys out of order");
+    }
+
+    @Test
+    void testRebalance() {
+        for (int i = 0; i < 100; i++) {
+            bst.insert((double) i);
+        }
+        bst.rebalance();
+
+        assertEquals(100, bst.getSize());
+        assertEquals(40, bst.rangeCount(10.0, 49.0));
+        int expected = 0;
+        for (Double key : bst) {
+            assertEquals(expected++, key);
+        }
+        assertEquals(100, expected);
+    }
+
+    private static BinarySearchTree roundTrip(BinarySearchTree tree) throws IOException {
+        var out = new ByteArrayOutputStream();
+        tree.writeTo(Channels.newChannel(out));
+        return BinarySearchTree.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    void testWriteReadIntegralKeys() throws IOException {
+        for (int i = 0; i < 300_000; i++) {
+            bst.insert((double) ((i * 7919L) % 300_000 - 1000));
+        }
+
+        var out = new ByteArrayOutputStream();
+        bst.writeTo(Channels.newChannel(out));
+        assertTrue(out.size() < 300_000 * 2, "Dense whole numbers are delta encoded");
+
+        BinarySearchTree copy = roundTrip(bst);
+        assertEquals(300_000, copy.getSize());
+        Iterator<Double> expected = bst.iterator();
+        for (Double key : copy) {
+            assertEquals(expected.next(), key);
+        }
+    }
+
+    @Test
+    void testWriteReadFractionalKeys() throws IOException {
+        double[] keys = {-0.0, 0.0, 0.5, -3.25, Double.MAX_VALUE, Double.NEGATIVE_INFINITY, 1e300};
+        for (double key : keys) {
+            bst.insert(key);
+        }
+
+        BinarySearchTree copy = roundTrip(bst);
+        assertEquals(keys.length, copy.getSize());
+        Iterator<Double> expected = bst.iterator();
+        for (Double key : copy) {
+            assertEquals(expected.next(), key);
+        }
+        assertTrue(copy.search(-0.0), "-0.0 is kept apart from 0.0");
+        assertEquals(0, roundTrip(new BinarySearchTree()).getSize());
+
+        assertThrows(IOException.class,
+                () -> BinarySearchTree.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[] {1, 2}))));
+    }
+
+    @Test
+    void testDescendingIteratorAndForEach() {
+        for (int i = 0; i < 100; i++) {
+            bst.insert((double) (i * 37 % 100));
+        }
+
+        Iterator<Double> it = bst.descendingIterator();
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, it.next());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next, "Iterator is exhausted");
+
+        double[] sum = {0};
+        bst.forEachDouble(key -> sum[0] += key);
+        assertEquals(4950.0, sum[0]);
+        int[] count = {0};
+        bst.forEach(key -> count[0]++);   // Iterable.forEach stays unambiguous
+        assertEquals(100, count[0]);
+        assertFalse(new BinarySearchTree().descendingIterator().hasNext());
+    }
+
+    @Test
+    void testSpliterator() {
+        for (int i = 0; i < 100_000; i++) {
+            bst.insert((double) ((i * 7919L) % 100_000));
+        }
+
+        assertEquals(4_999_950_000.0, bst.parallelStream().sum());
+        assertArrayEquals(bst.stream().toArray(), bst.parallelStream().toArray(),
+                "Parallel stream lost the encounter order");
+
+        Spliterator.OfDouble right = bst.spliterator();
+        Spliterator.OfDouble left = right.trySplit();
+        assertEquals(50_000, left.estimateSize());
+        assertEquals(50_000, right.estimateSize());
+        right.tryAdvance((double key) -> assertEquals(50_000.0, key));
+    }
+
+    @Test
+    void testIteratorRemove() {
+        for (int i = 0; i < 100; i++) {
+            bst.insert((double) (i * 37 % 100));
+        }
+
+        Iterator<Double> it = bst.iterator();
+        int expected = 0;
+        while (it.hasNext()) {
+            double key = it.next();
+            assertEquals(expected++, key, "Removing a node with two children skipped its successor");
+            if (key % 3 != 0) it.remove();
+        }
+        assertEquals(34, bst.getSize());
+        assertEquals(99.0, bst.select(33));
+
+        Iterator<Double> descending = bst.descendingIterator();
+        while (descending.hasNext()) {
+            if (descending.next() > 50) descending.remove();
+        }
+        assertEquals(17, bst.getSize());
+        assertEquals(48.0, bst.getMaxVal());
+        assertThrows(IllegalStateException.class, bst.iterator()::remove, "next() not called yet");
+    }
+
+    @Test
+    void testIteratorFailFast() {
+        bst.insert(1.0);
+        bst.insert(2.0);
+        bst.insert(3.0);
+
+        Iterator<Double> it = bst.iterator();
+        it.next();
+        bst.insert(4.0);
+        assertThrows(ConcurrentModificationException.class, it::next, "Tree changed while iterating");
+
+        Iterator<Double> range = bst.rangeIterator(1.0, 3.0);
+        bst.delete(2.0);
+        assertThrows(ConcurrentModificationException.class, range::next, "Tree changed while iterating");
+
+        it = bst.iterator();
+        it.next();
+        assertFalse(bst.insert(3.0), "Duplicate insert isn't a change");
+        assertEquals(3.0, it.next());
+    }
+
+    @Test
+    void testWriteReadSharedChannel() throws IOException {
+        double[] keys = new double[200_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        bst = BinarySearchTree.fromSorted(keys);
+        var fractional = new BinarySearchTree();
+        for (int i = 0; i < 1000; i++) {
+            fractional.insert(i + 0.5);
+        }
+        var dynamicArray = new DynamicArray<Long>(4);
+        for (long i = 0; i < 300_000; i++) {
+            dynamicArray.push(-i);
+        }
+
+        var out = new ByteArrayOutputStream();
+        var writeChannel = Channels.newChannel(out);
+        bst.writeTo(writeChannel);
+        dynamicArray.writeTo(writeChannel, ElementLayout.LONG);
+        fractional.writeTo(writeChannel);
+
+        var readChannel = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+        BinarySearchTree first = BinarySearchTree.readFrom(readChannel);
+        DynamicArray<Long> second = DynamicArray.readFrom(readChannel, ElementLayout.LONG);
+        BinarySearchTree third = BinarySearchTree.readFrom(readChannel);
+
+        assertEquals(200_000, first.getSize());
+        assertEquals(199_999.0, first.getMaxVal());
+        assertEquals(300_000, second.size());
+        assertEquals(-299_999L, second.get(299_999));
+        assertEquals(1000, third.getSize());
+        assertEquals(0.5, third.getMinVal());
+        assertEquals(-1, readChannel.read(ByteBuffer.allocate(1)), "Every byte was consumed");
+    }
+}
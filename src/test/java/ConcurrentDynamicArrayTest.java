@@ -0,0 +1,67 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDynamicArrayTest {
+    @Test
+    void pushGetTest() {
+        var dynamicArray = new ConcurrentDynamicArray<Integer>(3);
+        for (int i = 0; i < 1000; i++) {
+            dynamicArray.push(i);
+        }
+
+        assertEquals(1000, dynamicArray.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, dynamicArray.get(i), "Element moved after growing");
+        }
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dynamicArray.get(-1), "Given index is negative");
+        assertThrows(NoSuchElementException.class,
+                () -> dynamicArray.get(1000), "Given index is equal to length of dynamic array");
+        assertThrows(IllegalArgumentException.class,
+                () -> dynamicArray.push(null), "NULL marks unpublished slots");
+    }
+
+    @Test
+    void concurrentPushTest() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 20_000;
+        var dynamicArray = new ConcurrentDynamicArray<Integer>(16);
+        var start = new CountDownLatch(1);
+
+        var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    dynamicArray.push(base + i);
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, dynamicArray.size());
+        var seen = new boolean[producers * perProducer];
+        for (int value : dynamicArray) {
+            assertFalse(seen[value], "Element pushed once but stored twice");
+            seen[value] = true;
+        }
+        for (boolean b : seen) {
+            assertTrue(b, "Pushed element was lost");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentPriorityQueueTest {
+    @Test
+    void strictPollOrderTest() {
+        var pq = new ConcurrentPriorityQueue<Integer>(8, Comparator.naturalOrder(), true);
+        for (int i = 999; i >= 0; i--) {
+            pq.add(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, pq.poll(), "Strict mode must poll the exact minimum");
+        }
+        assertNull(pq.poll(), "Polling from an empty queue");
+    }
+
+    @Test
+    void relaxedConcurrentTest() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        var pq = new ConcurrentPriorityQueue<Integer>(16, Comparator.naturalOrder(), false);
+        var polled = new ConcurrentLinkedQueue<Integer>();
+
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    pq.add(base + i);
+                    if (i % 2 == 1) {
+                        polled.add(pq.poll());
+                    }
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread / 2, pq.getSize());
+        Integer next;
+        while ((next = pq.poll()) != null) {
+            polled.add(next);
+        }
+
+        var seen = new boolean[threads * perThread];
+        for (int value : polled) {
+            assertFalse(seen[value], "Element added once but polled twice");
+            seen[value] = true;
+        }
+        assertEquals(threads * perThread, polled.size(), "Added element was lost");
+        assertTrue(pq.isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentSkipListTest {
+    @Test
+    void insertSearchDeleteTest() {
+        var list = new ConcurrentSkipList();
+        assertTrue(list.isEmpty());
+        assertThrows(RuntimeException.class, list::getMinVal, "Tree is empty");
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(list.insert((double) (i * 37 % 1000)));
+        }
+        assertFalse(list.insert(5.0), "Duplicate key");
+        assertEquals(1000, list.getSize());
+        assertEquals(0.0, list.getMinVal());
+        assertEquals(999.0, list.getMaxVal());
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(list.delete((double) i));
+        }
+        assertFalse(list.delete(0.0), "Already deleted");
+        assertFalse(list.search(10.0));
+        assertTrue(list.search(11.0));
+        assertEquals(500, list.getSize());
+        assertEquals(1.0, list.getMinVal());
+
+        double expected = 1;
+        for (Double key : list) {
+            assertEquals(expected, key);
+            expected += 2;
+        }
+        assertEquals(1001.0, expected);
+
+        assertThrows(IllegalArgumentException.class, () -> list.insert(null), "NULL key");
+    }
+
+    @Test
+    void concurrentInsertDeleteTest() throws InterruptedException {
+        int writers = 8;
+        int perWriter = 20_000;
+        var list = new ConcurrentSkipList();
+        var start = new CountDownLatch(1);
+
+        // Every writer inserts its own keys and deletes the odd ones again
+        var threads = new ArrayList<Thread>();
+        for (int w = 0; w < writers; w++) {
+            int id = w;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    list.insert((double) (i * writers + id));
+                }
+                for (int i = 1; i < perWriter; i += 2) {
+                    list.delete((double) (i * writers + id));
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(writers * perWriter / 2, list.getSize());
+        Iterator<Double> it = list.iterator();
+        double prev = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        while (it.hasNext()) {
+            double key = it.next();
+            assertTrue(key > prev, "Keys out of order");
+            assertEquals(0, ((long) key / writers) % 2, "Deleted key still present");
+            prev = key;
+            count++;
+        }
+        assertEquals(writers * perWriter / 2, count);
+    }
+}
@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleDynamicArrayTest {
+    @Test
+    void pushGrowsTest() {
+        var dynamicArray = new DoubleDynamicArray(1, GrowthPolicy.fixedIncrement(3));
+        for (int i = 0; i < 100; i++) {
+            dynamicArray.push(i * 0.5);
+        }
+
+        assertEquals(100, dynamicArray.size());
+        assertEquals(49.5, dynamicArray.get(99), "Data not pushed at the end of dynamic array");
+    }
+
+    @Test
+    void getTest() {
+        var dynamicArray = new DoubleDynamicArray(5, new double[] {1, 2, 3});
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dynamicArray.get(-1), "Given index is negative");
+
+        assertThrows(NoSuchElementException.class,
+                () -> dynamicArray.get(3), "Given index is equal to length of dynamic array");
+    }
+
+    @Test
+    void indexOfNaNTest() {
+        var dynamicArray = new DoubleDynamicArray(4, new double[] {1.5, Double.NaN, 2.5});
+
+        // == never matches NaN, Double.compare does
+        assertEquals(1, dynamicArray.indexOf(Double.NaN));
+        assertTrue(dynamicArray.contains(0.0 / 0.0));
+        assertTrue(dynamicArray.remove(Double.NaN));
+        assertFalse(dynamicArray.contains(Double.NaN));
+        assertArrayEquals(new double[] {1.5, 2.5}, dynamicArray.toArray());
+    }
+
+    @Test
+    void indexOfSignedZeroTest() {
+        var dynamicArray = new DoubleDynamicArray(4, new double[] {-0.0, 1.0});
+
+        // == treats 0.0 and -0.0 as equal, Double.compare keeps them apart
+        assertEquals(-1, dynamicArray.indexOf(0.0));
+        assertEquals(0, dynamicArray.indexOf(-0.0));
+
+        dynamicArray.push(0.0);
+        assertEquals(2, dynamicArray.indexOf(0.0));
+        assertTrue(dynamicArray.remove(-0.0));
+        assertEquals(1, dynamicArray.indexOf(0.0));
+    }
+
+    @Test
+    void iteratorTest() {
+        var dynamicArray = new DoubleDynamicArray(5, new double[] {1, 2, 3});
+        dynamicArray.addAll(new double[] {4, 5});
+        PrimitiveIterator.OfDouble it = dynamicArray.iterator();
+
+        for (double expected = 1; expected <= 5; expected++) {
+            assertEquals(expected, it.nextDouble());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextDouble);
+    }
+}
@@ -0,0 +1,56 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoublePriorityQueueTest {
+    @Test
+    void pollOrderTest() {
+        var pq = new DoublePriorityQueue<String>(1);
+        var random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            double distance = random.nextDouble() * 100;
+            pq.add(distance, "node-" + distance);
+        }
+        pq.add(Double.POSITIVE_INFINITY, "unreachable");
+        pq.add(Double.NEGATIVE_INFINITY, "source");
+        assertTrue(pq.isMinHeap(), "Heap invariant broken after add");
+        assertEquals(1002, pq.getSize());
+
+        assertEquals("source", pq.poll());
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < 1000; i++) {
+            double distance = pq.peekPriority();
+            assertTrue(previous <= distance, "Payloads not polled in priority order");
+            assertEquals("node-" + distance, pq.poll(), "Payload separated from its priority");
+            previous = distance;
+        }
+        assertEquals("unreachable", pq.poll());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    void rejectsNaNTest() {
+        var pq = new DoublePriorityQueue<String>();
+        pq.add(1.0, "a");
+
+        assertThrows(IllegalArgumentException.class, () -> pq.add(Double.NaN, "b"), "NaN has no place in the order");
+        assertThrows(IllegalArgumentException.class, () -> pq.add(0.0 / 0.0, "c"), "NaN has no place in the order");
+        assertEquals(1, pq.getSize(), "Rejected element was added");
+        assertTrue(pq.isMinHeap());
+    }
+
+    @Test
+    void emptyTest() {
+        var pq = new DoublePriorityQueue<String>();
+        pq.add(2.0, null);
+        assertNull(pq.poll(), "Payload may be null");
+
+        assertNull(pq.peek(), "Peeking into an empty queue");
+        assertThrows(NoSuchElementException.class, pq::poll, "Polling from an empty queue");
+        assertThrows(NoSuchElementException.class, pq::peekPriority, "Peeking into an empty queue");
+        assertThrows(IllegalArgumentException.class, () -> new DoublePriorityQueue<String>(0), "Capacity is 0");
+    }
+}
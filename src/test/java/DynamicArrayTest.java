@@ -1,6 +1,19 @@
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,6 +91,235 @@ class DynamicArrayTest {
         
         assertEquals(3, dynamicArray.pop(), "Popped element was not the last element");
     }
+
+    @Test
+    void removeAtTest() {
+        var dynamicArray = new DynamicArray<>(4, new Integer[] {1,2,3,4});
+        
+        assertEquals(2, dynamicArray.removeAt(1), "Removed element was not the one at the index");
+        assertEquals(3, dynamicArray.size());
+        assertEquals(3, dynamicArray.get(1), "Elements after the index were not shifted left");
+
+        // Capacity must still be consistent with the backing array
+        dynamicArray.push(5);
+        dynamicArray.push(6);
+        assertEquals(5, dynamicArray.size());
+        assertEquals(6, dynamicArray.get(4));
+        
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dynamicArray.removeAt(-1), "Given index is negative");
+        assertThrows(NoSuchElementException.class,
+                () -> dynamicArray.removeAt(5), "Given index is equal to length of dynamic array");
+    }
+    
+    @Test
+    void removeRangeTest() throws NoSuchFieldException, IllegalAccessException {
+        var dynamicArray = new DynamicArray<>(6, new Integer[] {1,2,3,4,5,6});
+        dynamicArray.removeRange(1, 4);
+        
+        assertEquals(3, dynamicArray.size());
+        assertEquals(1, dynamicArray.get(0));
+        assertEquals(5, dynamicArray.get(1));
+        assertEquals(6, dynamicArray.get(2));
+
+        Field arrField = DynamicArray.class.getDeclaredField("arr");
+        arrField.setAccessible(true);
+        Object[] arr = (Object[]) arrField.get(dynamicArray);
+        for (int i = 3; i < arr.length; i++) {
+            assertNull(arr[i], "Removed slots in private field arr are not null");
+        }
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> dynamicArray.removeRange(2, 1), "Start of range is after its end");
+    }
+    
+    @Test
+    void removeIfTest() {
+        var dynamicArray = new DynamicArray<>(8, new Integer[] {1,2,3,4,5,6,7,8});
+        
+        assertTrue(dynamicArray.removeIf(n -> n % 2 == 0));
+        assertEquals(4, dynamicArray.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(2 * i + 1, dynamicArray.get(i), "Kept elements are out of order");
+        }
+        
+        assertFalse(dynamicArray.removeIf(n -> n > 100), "Nothing should have been removed");
+        
+        assertThrows(IllegalStateException.class, () -> dynamicArray.removeIf(n -> {
+            if (n == 5) throw new IllegalStateException();
+            return n == 1;
+        }));
+        assertEquals(4, dynamicArray.size(), "Throwing filter must leave the array as it was");
+        for (int i = 0; i < 4; i++) {
+            assertEquals(2 * i + 1, dynamicArray.get(i), "Throwing filter must leave the array as it was");
+        }
+    }
+
+    @Test
+    void growthPolicyTest() {
+        var doubling = new DynamicArray<Integer>(4);
+        var oneAndHalf = new DynamicArray<Integer>(4, GrowthPolicy.oneAndHalf());
+        var fixed = new DynamicArray<Integer>(4, GrowthPolicy.fixedIncrement(3));
+        var capped = new DynamicArray<Integer>(4, GrowthPolicy.capped(2));
+        for (int i = 0; i < 5; i++) {
+            doubling.push(i);
+            oneAndHalf.push(i);
+            fixed.push(i);
+            capped.push(i);
+        }
+        
+        assertEquals(8, doubling.capacity());
+        assertEquals(6, oneAndHalf.capacity());
+        assertEquals(7, fixed.capacity());
+        assertEquals(6, capped.capacity());
+        assertEquals(4, capped.get(4), "Data not pushed at the end of dynamic array");
+    }
+    
+    @Test
+    void ensureCapacityAndTrimToSizeTest() {
+        var dynamicArray = new DynamicArray<>(2, new Integer[] {1,2});
+        
+        dynamicArray.ensureCapacity(100);
+        assertEquals(100, dynamicArray.capacity(), "Should grow to the requested capacity");
+        
+        dynamicArray.trimToSize();
+        assertEquals(2, dynamicArray.capacity(), "Unused capacity was not released");
+        assertEquals(2, dynamicArray.get(1));
+        
+        dynamicArray.push(3);
+        assertEquals(3, dynamicArray.get(2));
+    }
+    
+    @Test
+    void shrinkOnPopTest() {
+        var dynamicArray = new DynamicArray<Integer>(4, GrowthPolicy.doubling(), 0.25);
+        for (int i = 0; i < 64; i++) {
+            dynamicArray.push(i);
+        }
+        assertEquals(64, dynamicArray.capacity());
+        
+        while (dynamicArray.size() > 15) {
+            dynamicArray.pop();
+        }
+        assertEquals(30, dynamicArray.capacity(), "Should shrink once below a quarter full");
+        
+        // Hysteresis: popping a few more doesn't shrink again straight away
+        dynamicArray.pop();
+        assertEquals(30, dynamicArray.capacity());
+        
+        while (dynamicArray.size() > 0) {
+            dynamicArray.pop();
+        }
+        assertEquals(4, dynamicArray.capacity(), "Should never shrink below the initial capacity");
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> new DynamicArray<Integer>(4, GrowthPolicy.doubling(), 0.5), "Threshold leaves no hysteresis");
+    }
+
+    private static DynamicArray<Integer> range(int n) {
+        var dynamicArray = new DynamicArray<Integer>(1);
+        for (int i = 0; i < n; i++) {
+            dynamicArray.push(i);
+        }
+        return dynamicArray;
+    }
+    
+    @Test
+    void streamTest() {
+        var dynamicArray = range(10_000);
+        
+        assertEquals(10_000, dynamicArray.stream().count());
+        assertEquals(49_995_000L, dynamicArray.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(dynamicArray.stream().toList(), dynamicArray.parallelStream().toList(),
+                "Parallel stream lost the encounter order");
+    }
+    
+    @Test
+    void parallelOperationsTest() {
+        var dynamicArray = range(100_000);
+        
+        var sum = new AtomicLong();
+        dynamicArray.parallelForEach(sum::addAndGet);
+        assertEquals(4_999_950_000L, sum.get());
+        assertEquals(99_999, dynamicArray.parallelReduce(0, Math::max));
+        assertEquals(73_123, dynamicArray.parallelIndexOf(73_123));
+        assertEquals(-1, dynamicArray.parallelIndexOf(-5));
+        
+        dynamicArray.parallelSort(Comparator.reverseOrder());
+        assertEquals(99_999, dynamicArray.get(0), "Not sorted in descending order");
+        assertEquals(0, dynamicArray.get(99_999));
+    }
+    
+    @Test
+    void writeReadTest(@TempDir Path dir) throws IOException {
+        var dynamicArray = new DynamicArray<Long>(4);
+        for (long i = 0; i < 200_000; i++) {
+            dynamicArray.push(i * i);
+        }
+        
+        Path file = dir.resolve("array.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            dynamicArray.writeTo(channel, ElementLayout.LONG);
+        }
+        assertEquals(16 + 200_000 * 8L, Files.size(file));
+        
+        DynamicArray<Long> copy;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            copy = DynamicArray.readFrom(channel, ElementLayout.LONG);
+        }
+        assertEquals(200_000, copy.size());
+        for (int i = 0; i < 200_000; i++) {
+            assertEquals(dynamicArray.get(i), copy.get(i));
+        }
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThrows(IOException.class, () -> DynamicArray.readFrom(channel, ElementLayout.INT),
+                    "Element size doesn't match the layout");
+        }
+    }
     
+    @Test
+    void iteratorTest() {
+        var dynamicArray = range(10);
+        
+        int expected = 0;
+        for (Integer element : dynamicArray) {
+            assertEquals(expected++, element, "Iterator skipped an element");
+        }
+        assertEquals(10, expected);
+        
+        var it = dynamicArray.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0) it.remove();
+        }
+        assertEquals(5, dynamicArray.size());
+        assertEquals(1, dynamicArray.get(0));
+        assertEquals(9, dynamicArray.get(4));
+        assertThrows(NoSuchElementException.class, it::next, "Iterator is exhausted");
+        assertThrows(IllegalStateException.class, dynamicArray.iterator()::remove, "next() not called yet");
+    }
+    
+    @Test
+    void iteratorFailFastTest() {
+        var dynamicArray = range(10);
+        
+        var it = dynamicArray.iterator();
+        it.next();
+        dynamicArray.push(10);
+        assertThrows(ConcurrentModificationException.class, it::next, "Array grew while iterating");
+        
+        var it2 = dynamicArray.iterator();
+        it2.next();
+        dynamicArray.set(0, 42);
+        assertEquals(1, it2.next(), "set isn't a structural change");
+    }
     
-}
\ No newline at end of file
+    @Test
+    void readMalformedLengthTest() {
+        var header = ByteBuffer.allocate(16).order(ByteOrder.nativeOrder());
+        header.putInt(0x44594E53).putInt(-5).putLong(Long.BYTES);
+        assertThrows(IOException.class,
+                () -> DynamicArray.readFrom(Channels.newChannel(new ByteArrayInputStream(header.array())), ElementLayout.LONG),
+                "Negative length");
+    }
+}
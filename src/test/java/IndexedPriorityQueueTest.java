@@ -0,0 +1,96 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedPriorityQueueTest {
+    @Test
+    void pollOrderTest() {
+        for (int d : new int[] {2, 4, 8}) {
+            var pq = new IndexedPriorityQueue<Integer>(d, 100);
+            var random = new Random(d);
+            for (int key = 0; key < 100; key++) {
+                pq.insert(key, random.nextInt(1000));
+            }
+            assertTrue(pq.isMinHeap(), "Heap invariant broken after insert, d=" + d);
+
+            int previous = Integer.MIN_VALUE;
+            while (!pq.isEmpty()) {
+                int value = pq.peekMinValue();
+                assertTrue(previous <= value, "Values not polled in priority order, d=" + d);
+                previous = value;
+                pq.pollMinKey();
+            }
+        }
+    }
+
+    @Test
+    void decreaseAndIncreaseKeyTest() {
+        var pq = new IndexedPriorityQueue<Integer>(4, 10);
+        for (int key = 0; key < 10; key++) {
+            pq.insert(key, 10 + key);
+        }
+
+        pq.decreaseKey(7, 1);
+        assertEquals(7, pq.peekMinKey());
+
+        pq.decreaseKey(7, 50);
+        assertEquals(1, pq.valueOf(7), "decreaseKey must ignore a higher value");
+
+        pq.increaseKey(7, 100);
+        assertEquals(0, pq.peekMinKey());
+
+        assertEquals(10, pq.update(0, 200));
+        assertEquals(1, pq.peekMinKey());
+        assertTrue(pq.isMinHeap());
+    }
+
+    @Test
+    void deleteTest() {
+        var pq = new IndexedPriorityQueue<Integer>(3, 10);
+        for (int key = 0; key < 10; key++) {
+            pq.insert(key, key * key % 7);
+        }
+
+        assertEquals(4, pq.delete(5));
+        assertFalse(pq.contains(5));
+        assertEquals(9, pq.getSize());
+        assertTrue(pq.isMinHeap(), "Heap invariant broken after delete");
+
+        assertThrows(NoSuchElementException.class, () -> pq.delete(5), "Key was already deleted");
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(4, 1), "Key is already in the queue");
+        assertThrows(IndexOutOfBoundsException.class, () -> pq.contains(10), "Key index out of range");
+    }
+
+    @Test
+    void doublePrioritiesTest() {
+        var pq = new DoubleIndexedPriorityQueue(4, 1000);
+        var random = new Random(9);
+        for (int key = 0; key < 1000; key++) {
+            pq.insert(key, random.nextDouble() * 100);
+        }
+        for (int key = 0; key < 1000; key += 3) {
+            pq.decreaseKey(key, pq.valueOf(key) / 2);
+        }
+        double old = pq.valueOf(1);
+        assertEquals(old, pq.update(1, -1.0), "update returns the old value");
+        assertEquals(1, pq.peekMinKey());
+        assertTrue(pq.isMinHeap(), "Heap invariant broken after decreaseKey");
+
+        double previous = Double.NEGATIVE_INFINITY;
+        while (!pq.isEmpty()) {
+            double value = pq.peekMinValue();
+            assertTrue(previous <= value, "Values not polled in priority order");
+            previous = value;
+            pq.pollMinKey();
+        }
+
+        pq.insert(3, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(4, Double.NaN), "NaN has no place in the order");
+        assertThrows(IllegalArgumentException.class, () -> pq.decreaseKey(3, Double.NaN), "NaN has no place in the order");
+        assertEquals(1.0, pq.delete(3));
+        assertThrows(NoSuchElementException.class, () -> pq.delete(3), "Key was already deleted");
+    }
+}
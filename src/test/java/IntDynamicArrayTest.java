@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntDynamicArrayTest {
+    @Test
+    void pushGrowsTest() {
+        var dynamicArray = new IntDynamicArray(1);
+        for (int i = 0; i < 100; i++) {
+            dynamicArray.push(i);
+        }
+
+        assertEquals(100, dynamicArray.size());
+        assertEquals(99, dynamicArray.get(99), "Data not pushed at the end of dynamic array");
+    }
+
+    @Test
+    void getTest() {
+        var dynamicArray = new IntDynamicArray(5, new int[] {1, 2, 3});
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dynamicArray.get(-1), "Given index is negative");
+
+        assertThrows(NoSuchElementException.class,
+                () -> dynamicArray.get(3), "Given index is equal to length of dynamic array");
+    }
+
+    @Test
+    void removeAtTest() {
+        var dynamicArray = new IntDynamicArray(5, new int[] {1, 2, 3, 4});
+
+        assertEquals(2, dynamicArray.removeAt(1));
+        assertArrayEquals(new int[] {1, 3, 4}, dynamicArray.toArray());
+
+        dynamicArray.push(5);
+        assertArrayEquals(new int[] {1, 3, 4, 5}, dynamicArray.toArray());
+    }
+
+    @Test
+    void addAllTest() {
+        var dynamicArray = new IntDynamicArray(2, new int[] {1, 2});
+        dynamicArray.addAll(new int[] {3, 4, 5});
+
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, dynamicArray.toArray());
+        assertTrue(dynamicArray.contains(5));
+        assertEquals(-1, dynamicArray.indexOf(6));
+    }
+
+    @Test
+    void iteratorTest() {
+        var dynamicArray = new IntDynamicArray(5, new int[] {1, 2, 3});
+        PrimitiveIterator.OfInt it = dynamicArray.iterator();
+
+        assertEquals(1, it.nextInt());
+        assertEquals(2, it.nextInt());
+        assertEquals(3, it.nextInt());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextInt);
+    }
+
+    @Test
+    void growthPolicyTest() {
+        // A policy that doesn't grow still has to make room for the element
+        var dynamicArray = new IntDynamicArray(1, capacity -> capacity);
+        for (int i = 0; i < 100; i++) {
+            dynamicArray.push(i);
+        }
+        dynamicArray.addAll(new int[] {100, 101});
+
+        assertEquals(102, dynamicArray.size());
+        assertEquals(101, dynamicArray.get(101));
+        assertThrows(IllegalArgumentException.class, () -> new IntDynamicArray(1, (GrowthPolicy) null), "NULL growth policy");
+    }
+}
@@ -0,0 +1,57 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongDynamicArrayTest {
+    @Test
+    void pushGrowsTest() {
+        var dynamicArray = new LongDynamicArray(1, GrowthPolicy.oneAndHalf());
+        for (long i = 0; i < 100; i++) {
+            dynamicArray.push(i << 40);
+        }
+
+        assertEquals(100, dynamicArray.size());
+        assertEquals(99L << 40, dynamicArray.get(99), "Data not pushed at the end of dynamic array");
+        assertEquals(99L << 40, dynamicArray.pop());
+        assertEquals(99, dynamicArray.size());
+    }
+
+    @Test
+    void getTest() {
+        var dynamicArray = new LongDynamicArray(5, new long[] {1, 2, 3});
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dynamicArray.get(-1), "Given index is negative");
+
+        assertThrows(NoSuchElementException.class,
+                () -> dynamicArray.get(3), "Given index is equal to length of dynamic array");
+    }
+
+    @Test
+    void removeAddAllTest() {
+        var dynamicArray = new LongDynamicArray(2, new long[] {1, 2, Long.MAX_VALUE});
+
+        assertTrue(dynamicArray.remove(2));
+        assertFalse(dynamicArray.remove(2));
+        dynamicArray.addAll(new long[] {Long.MIN_VALUE, 5});
+
+        assertArrayEquals(new long[] {1, Long.MAX_VALUE, Long.MIN_VALUE, 5}, dynamicArray.toArray());
+        assertEquals(2, dynamicArray.indexOf(Long.MIN_VALUE));
+        assertFalse(dynamicArray.contains(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void iteratorTest() {
+        var dynamicArray = new LongDynamicArray(5, new long[] {1, 2, 3});
+        PrimitiveIterator.OfLong it = dynamicArray.iterator();
+
+        assertEquals(1, it.nextLong());
+        assertEquals(2, it.nextLong());
+        assertEquals(3, it.nextLong());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextLong);
+    }
+}
@@ -0,0 +1,36 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongPriorityQueueTest {
+    @Test
+    void pollOrderTest() {
+        var pq = new LongPriorityQueue<String>(1);
+        var random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            long deadline = random.nextLong(10_000);
+            pq.add(deadline, "task-" + deadline);
+        }
+        assertTrue(pq.isMinHeap(), "Heap invariant broken after add");
+
+        long previous = Long.MIN_VALUE;
+        while (!pq.isEmpty()) {
+            long deadline = pq.peekPriority();
+            assertTrue(previous <= deadline, "Payloads not polled in priority order");
+            assertEquals("task-" + deadline, pq.poll(), "Payload separated from its priority");
+            previous = deadline;
+        }
+    }
+
+    @Test
+    void emptyTest() {
+        var pq = new LongPriorityQueue<String>();
+
+        assertNull(pq.peek(), "Peeking into an empty queue");
+        assertThrows(NoSuchElementException.class, pq::poll, "Polling from an empty queue");
+        assertThrows(NoSuchElementException.class, pq::peekPriority, "Peeking into an empty queue");
+    }
+}
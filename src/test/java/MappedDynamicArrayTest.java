@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedDynamicArrayTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenTest() throws IOException {
+        Path file = dir.resolve("longs.bin");
+        try (var dynamicArray = new MappedDynamicArray<>(file, ElementLayout.LONG, 2)) {
+            for (long i = 0; i < 1000; i++) {
+                dynamicArray.push(i);
+            }
+            dynamicArray.removeAt(0);
+        }
+
+        try (var dynamicArray = new MappedDynamicArray<>(file, ElementLayout.LONG, 2)) {
+            assertEquals(999, dynamicArray.size(), "Length was not persisted");
+            assertEquals(1024, dynamicArray.capacity(), "Capacity was not persisted");
+            assertEquals(1L, dynamicArray.get(0));
+            assertEquals(999L, dynamicArray.get(998));
+
+            dynamicArray.push(1000L);
+            assertEquals(1000L, dynamicArray.pop());
+        }
+    }
+
+    @Test
+    void trimToSizeShrinksFileTest() throws IOException {
+        Path file = dir.resolve("ints.bin");
+        try (var dynamicArray = new MappedDynamicArray<>(file, ElementLayout.INT, 100)) {
+            dynamicArray.push(1);
+            dynamicArray.push(2);
+            dynamicArray.trimToSize();
+
+            assertEquals(2, dynamicArray.capacity());
+            assertEquals(2, dynamicArray.get(1));
+        }
+
+        assertEquals(32 + 2 * 4, Files.size(file), "File should only hold the header and two ints");
+    }
+
+    @Test
+    void rejectsMismatchedFileTest() throws IOException {
+        Path file = dir.resolve("doubles.bin");
+        try (var dynamicArray = new MappedDynamicArray<>(file, ElementLayout.DOUBLE, 4)) {
+            dynamicArray.push(1.0);
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedDynamicArray<>(file, ElementLayout.INT, 4), "Element size differs from the file's");
+
+        Path garbage = dir.resolve("garbage.bin");
+        Files.write(garbage, new byte[64]);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedDynamicArray<>(garbage, ElementLayout.INT, 4), "File has no magic number");
+    }
+
+    @Test
+    void rejectsOversizedCapacityTest() throws IOException {
+        Path file = dir.resolve("oversized.bin");
+        try (var dynamicArray = new MappedDynamicArray<>(file, ElementLayout.INT, 4)) {
+            dynamicArray.push(1);
+        }
+
+        // 2^61 ints overflow a long byte count, so only the capacity bound catches it
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            var capacity = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(1L << 61).flip();
+            channel.write(capacity, 24);
+        }
+        assertThrows(IOException.class,
+                () -> new MappedDynamicArray<>(file, ElementLayout.INT, 4), "Capacity exceeds maximum array size");
+    }
+}
@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapDynamicArrayTest {
+    record Point(int x, long y) {
+    }
+
+    // Point stored as a 16 byte struct: int x, 4 bytes padding, long y
+    static final ElementLayout<Point> POINT = new ElementLayout<>() {
+        public long byteSize() { return 16; }
+        public void write(MemorySegment segment, long offset, Point value) {
+            segment.set(ValueLayout.JAVA_INT, offset, value.x());
+            segment.set(ValueLayout.JAVA_LONG, offset + 8, value.y());
+        }
+        public Point read(MemorySegment segment, long offset) {
+            return new Point(segment.get(ValueLayout.JAVA_INT, offset), segment.get(ValueLayout.JAVA_LONG, offset + 8));
+        }
+    };
+
+    @Test
+    void pushGetSetTest() {
+        try (var dynamicArray = new OffHeapDynamicArray<>(ElementLayout.LONG, 2)) {
+            for (long i = 0; i < 100; i++) {
+                dynamicArray.push(i * i);
+            }
+
+            assertEquals(100, dynamicArray.size());
+            assertEquals(81L, dynamicArray.get(9));
+
+            dynamicArray.set(9, -1L);
+            assertEquals(-1L, dynamicArray.get(9));
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(-1), "Given index is negative");
+            assertThrows(NoSuchElementException.class,
+                    () -> dynamicArray.get(100), "Given index is equal to length of dynamic array");
+        }
+    }
+
+    @Test
+    void popAndRemoveAtTest() {
+        try (var dynamicArray = new OffHeapDynamicArray<>(ElementLayout.INT, 4)) {
+            for (int i = 1; i <= 5; i++) {
+                dynamicArray.push(i);
+            }
+
+            assertEquals(5, dynamicArray.pop(), "Popped element was not the last element");
+            assertEquals(2, dynamicArray.removeAt(1));
+            assertEquals(3, dynamicArray.size());
+            assertEquals(3, dynamicArray.get(1), "Elements after the index were not shifted left");
+            assertEquals(4, dynamicArray.get(2));
+        }
+    }
+
+    @Test
+    void structLayoutTest() {
+        try (var dynamicArray = new OffHeapDynamicArray<>(POINT, 1)) {
+            dynamicArray.push(new Point(1, 10));
+            dynamicArray.push(new Point(2, 20));
+            dynamicArray.push(new Point(3, 30));
+            dynamicArray.trimToSize();
+
+            assertEquals(3, dynamicArray.capacity());
+            assertEquals(new Point(2, 20), dynamicArray.get(1));
+
+            int sum = 0;
+            for (Point point : dynamicArray) {
+                sum += point.x();
+            }
+            assertEquals(6, sum);
+        }
+    }
+
+    @Test
+    void closeTest() {
+        var dynamicArray = new OffHeapDynamicArray<>(ElementLayout.DOUBLE, 4);
+        dynamicArray.push(1.5);
+        dynamicArray.close();
+
+        assertThrows(IllegalStateException.class, () -> dynamicArray.get(0), "Read after close");
+        assertThrows(IllegalStateException.class, () -> dynamicArray.push(2.0), "Write after close");
+        dynamicArray.close();
+    }
+}
@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PairingHeapTest {
+    @Test
+    void pollOrderTest() {
+        var heap = PairingHeap.<Integer>create();
+        var random = new Random(3);
+        for (int i = 0; i < 1000; i++) {
+            heap.add(random.nextInt(500));
+        }
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int value = heap.poll();
+            assertTrue(previous <= value, "Elements not polled in priority order");
+            previous = value;
+        }
+        assertNull(heap.peek());
+        assertThrows(NoSuchElementException.class, heap::poll, "Polling from an empty heap");
+    }
+
+    @Test
+    void meldTest() {
+        var heap1 = PairingHeap.<Integer>create();
+        var heap2 = PairingHeap.<Integer>create();
+        for (int i = 0; i < 10; i++) {
+            heap1.add(2 * i);
+            heap2.add(2 * i + 1);
+        }
+
+        heap1.meld(heap2);
+        assertEquals(20, heap1.getSize());
+        assertTrue(heap2.isEmpty(), "Melded heap should be left empty");
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, heap1.poll());
+        }
+    }
+
+    @Test
+    void decreaseKeyTest() {
+        var heap = PairingHeap.<Integer>create();
+        var nodes = new ArrayList<PairingHeap.Node<Integer>>();
+        for (int i = 0; i < 100; i++) {
+            nodes.add(heap.insert(100 + i));
+        }
+        heap.poll();   // build some structure below the root
+
+        heap.decreaseKey(nodes.get(70), 5);
+        heap.decreaseKey(nodes.get(30), 7);
+        assertEquals(5, heap.poll());
+        assertEquals(7, heap.poll());
+        assertEquals(101, heap.poll());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> heap.decreaseKey(nodes.get(50), 500), "New value is greater");
+        assertThrows(NoSuchElementException.class,
+                () -> heap.decreaseKey(nodes.get(70), 1), "Node was already polled");
+    }
+}
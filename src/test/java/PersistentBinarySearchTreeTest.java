@@ -0,0 +1,64 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentBinarySearchTreeTest {
+    @Test
+    void insertDeleteBalancedTest() {
+        var tree = new PersistentBinarySearchTree();
+        assertThrows(RuntimeException.class, tree::getMinVal, "Tree is empty");
+
+        for (int i = 0; i < 1024; i++) {
+            assertTrue(tree.insert((double) i));
+        }
+        assertFalse(tree.insert(5.0), "Duplicate key");
+        assertEquals(1024, tree.getSize());
+        assertTrue(tree.getHeight() <= 15, "Sorted inserts should stay balanced");
+
+        for (int i = 0; i < 1024; i += 2) {
+            assertTrue(tree.delete((double) i));
+        }
+        assertFalse(tree.delete(0.0), "Already deleted");
+        assertEquals(512, tree.getSize());
+        assertEquals(1.0, tree.getMinVal());
+        assertEquals(1023.0, tree.getMaxVal());
+        assertTrue(tree.search(511.0));
+        assertFalse(tree.search(510.0));
+
+        double expected = 1;
+        for (Double key : tree) {
+            assertEquals(expected, key);
+            expected += 2;
+        }
+        assertEquals(1025.0, expected);
+    }
+
+    @Test
+    void snapshotTest() {
+        var tree = new PersistentBinarySearchTree();
+        for (int i = 0; i < 10; i++) {
+            tree.insert((double) i);
+        }
+
+        var snapshot = tree.snapshot();
+        Iterator<Double> it = tree.iterator();
+        tree.delete(3.0);
+        tree.insert(42.0);
+        snapshot.insert(-1.0);
+
+        assertEquals(10, tree.getSize());
+        assertFalse(tree.search(-1.0), "Snapshot writes don't leak back");
+        assertEquals(11, snapshot.getSize());
+        assertTrue(snapshot.search(3.0), "Snapshot keeps deleted key");
+        assertFalse(snapshot.search(42.0), "Snapshot doesn't see later inserts");
+
+        var seen = new ArrayList<Double>();
+        it.forEachRemaining(seen::add);
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0), seen,
+                "Iterator walks the version it started on");
+    }
+}
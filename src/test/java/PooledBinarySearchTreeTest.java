@@ -0,0 +1,54 @@
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledBinarySearchTreeTest {
+    @Test
+    void testRandomOperationsMatchTreeSet() {
+        var tree = new PooledBinarySearchTree(1);
+        var expected = new TreeSet<Double>();
+        var random = new Random(23);
+        for (int i = 0; i < 20_000; i++) {
+            double key = random.nextInt(1_000) / 4.0;
+            if (random.nextInt(3) > 0) {
+                assertEquals(expected.add(key), tree.insert(key));
+            }
+            else {
+                assertEquals(expected.remove(key), tree.delete(key));
+            }
+        }
+
+        assertEquals(expected.size(), tree.getSize());
+        assertEquals(expected.first(), tree.getMinVal());
+        assertEquals(expected.last(), tree.getMaxVal());
+        PrimitiveIterator.OfDouble it = tree.iterator();
+        for (double key : expected) {
+            assertEquals(key, it.nextDouble());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testDeletedSlotsAreReused() throws NoSuchFieldException, IllegalAccessException {
+        var tree = new PooledBinarySearchTree(4);
+        for (int round = 0; round < 100; round++) {
+            tree.insert(1.0);
+            tree.insert(2.0);
+            tree.insert(0.5);
+            tree.delete(2.0);
+            tree.delete(1.0);
+            tree.delete(0.5);
+        }
+
+        Field keysField = PooledBinarySearchTree.class.getDeclaredField("keys");
+        keysField.setAccessible(true);
+        assertEquals(4, ((double[]) keysField.get(tree)).length, "Pool grew although slots were freed");
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.search(1.0));
+    }
+}
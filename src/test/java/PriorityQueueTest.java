@@ -0,0 +1,160 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityQueueTest {
+    @Test
+    void addAndPollTest() {
+        var pq = PriorityQueue.<Integer>create();
+        for (int value : new int[] {5, 3, 8, 1, 9, 2, 7}) {
+            pq.add(value);
+        }
+
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after add");
+        for (int expected : new int[] {1, 2, 3, 5, 7, 8, 9}) {
+            assertEquals(expected, pq.poll(), "Elements not polled in priority order");
+        }
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    void heapifyTest() {
+        var pq = PriorityQueue.from(new Integer[] {9, 8, 7, 6, 5, 4, 3, 2, 1});
+
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after heapify");
+        assertEquals(1, pq.peek());
+    }
+
+    @Test
+    void removeTest() {
+        var pq = PriorityQueue.from(List.of(4, 10, 5, 11, 12, 6, 7));
+
+        assertTrue(pq.remove(11));
+        assertFalse(pq.contains(11));
+        assertTrue(pq.remove(4));
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after remove");
+        assertEquals(5, pq.getSize());
+        assertEquals(5, pq.poll());
+    }
+
+    @Test
+    void pollEmptyTest() {
+        var pq = PriorityQueue.<Integer>create();
+
+        assertThrows(NoSuchElementException.class, pq::poll, "Polling from an empty queue");
+    }
+
+    @Test
+    void comparatorTest() {
+        var pq = new PriorityQueue<String>(Comparator.comparingInt(String::length));
+        pq.add("ccc");
+        pq.add("a");
+        pq.add("bb");
+
+        assertEquals("a", pq.poll());
+        assertEquals("bb", pq.poll());
+        assertEquals("ccc", pq.poll());
+
+        var heapified = new PriorityQueue<>(new String[] {"ccc", "a", "bb"}, Comparator.comparingInt(String::length));
+        assertTrue(heapified.isMinHeap(0), "Heap invariant broken after heapify");
+        assertEquals("a", heapified.peek());
+    }
+
+    @Test
+    void addAllTest() {
+        var pq = PriorityQueue.<Integer>create();
+        pq.add(50);
+        pq.add(10);
+
+        // Small batch goes through add, large batch through heapify
+        pq.addAll(List.of(30));
+        var batch = new ArrayList<Integer>();
+        for (int i = 100; i > 0; i -= 3) {
+            batch.add(i);
+        }
+        pq.addAll(batch);
+
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after addAll");
+        assertEquals(3 + batch.size(), pq.getSize());
+        assertTrue(pq.remove(30), "Index map not updated by heapify");
+        assertTrue(pq.isMinHeap(0));
+        assertEquals(1, pq.poll());
+    }
+
+    @Test
+    void pollNAndDrainToTest() {
+        var pq = PriorityQueue.from(List.of(5, 1, 4, 2, 3));
+        var drained = new ArrayList<Integer>();
+
+        assertEquals(2, pq.pollN(2, drained::add));
+        assertEquals(List.of(1, 2), drained);
+
+        assertEquals(3, pq.drainTo(drained, 10), "Should stop when the queue runs out");
+        assertEquals(List.of(1, 2, 3, 4, 5), drained);
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    void boundedTopKTest() {
+        var pq = PriorityQueue.<Integer>bounded(10);
+        var random = new Random(11);
+        var all = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(100_000);
+            all.add(value);
+            pq.offer(value);
+        }
+
+        assertEquals(10, pq.getSize(), "Bounded queue grew past its bound");
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after offer");
+        all.sort(Comparator.reverseOrder());
+        var top = new ArrayList<Integer>();
+        pq.drainTo(top, 10);
+        top.sort(Comparator.reverseOrder());
+        assertEquals(all.subList(0, 10), top);
+    }
+
+    @Test
+    void boundedRejectTest() {
+        var pq = PriorityQueue.<Integer>bounded(2);
+        assertTrue(pq.offer(5));
+        assertTrue(pq.offer(7));
+
+        assertFalse(pq.offer(3), "Element smaller than the root must be rejected");
+        assertTrue(pq.offer(6));
+        assertEquals(6, pq.peek());
+        assertFalse(pq.contains(5), "Replaced root must be gone");
+        assertThrows(IllegalStateException.class, () -> pq.add(100), "Bounded queue is full");
+    }
+
+    @Test
+    void boundedRemoveTest() {
+        var pq = PriorityQueue.<Integer>bounded(5);
+        for (int i = 1; i <= 20; i++) {
+            pq.offer(i);
+        }
+
+        assertTrue(pq.contains(18));
+        assertFalse(pq.contains(3), "Offered out elements are gone");
+        assertTrue(pq.remove(18));
+        assertFalse(pq.remove(18), "Already removed");
+        assertFalse(pq.remove(3), "Never kept");
+        assertTrue(pq.isMinHeap(0), "Heap invariant broken after remove");
+        assertEquals(4, pq.getSize());
+        assertEquals(16, pq.poll());
+    }
+
+    @Test
+    void removeMissingTest() {
+        var pq = PriorityQueue.from(List.of(3, 1, 2));
+
+        assertFalse(pq.remove(4), "Element was never added");
+        assertEquals(3, pq.getSize());
+    }
+}
@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixHeapTest {
+    @Test
+    void monotonePollOrderTest() {
+        var heap = RadixHeap.ofLongs();
+        var random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            heap.add(random.nextLong(-1000, 1000));
+        }
+
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long key = heap.poll();
+            assertTrue(previous <= key, "Keys not polled in order");
+            previous = key;
+            heap.add(key + random.nextLong(0, 500));   // Monotone, like Dijkstra
+        }
+        while (!heap.isEmpty()) {
+            long key = heap.poll();
+            assertTrue(previous <= key, "Keys not polled in order");
+            previous = key;
+        }
+
+        long last = previous;
+        assertThrows(IllegalArgumentException.class,
+                () -> heap.add(last - 1), "Key is smaller than the last polled key");
+    }
+
+    @Test
+    void payloadTest() {
+        record Entry(long distance, String vertex) {
+        }
+        var heap = new RadixHeap<Entry>(Entry::distance);
+        heap.add(new Entry(7, "c"));
+        heap.add(new Entry(3, "b"));
+        heap.add(new Entry(0, "a"));
+
+        assertEquals(0, heap.peekKey());
+        assertEquals("a", heap.poll().vertex());
+        assertEquals("b", heap.poll().vertex());
+        assertEquals("c", heap.poll().vertex());
+        assertNull(heap.peek());
+    }
+}
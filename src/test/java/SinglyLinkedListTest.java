@@ -0,0 +1,67 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SinglyLinkedListTest {
+    private static SinglyLinkedList<Integer> range(int n) {
+        var list = new SinglyLinkedList<Integer>();
+        for (int i = 0; i < n; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Test
+    void addRemoveTest() {
+        var list = range(3);
+        assertEquals(0, list.removeFirst());
+        assertEquals(2, list.removeLast());
+        assertEquals(1, list.removeLast(), "Removing the only element");
+        assertTrue(list.isEmpty());
+
+        list.addLast(5);
+        assertEquals(5, list.removeFirst());
+        assertThrows(RuntimeException.class, list::removeFirst, "List is empty");
+    }
+
+    @Test
+    void iteratorTest() {
+        var list = range(10);
+
+        int expected = 0;
+        for (Integer element : list) {
+            assertEquals(expected++, element, "Iterator skipped an element");
+        }
+        assertEquals(10, expected);
+
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 3 != 1) it.remove();
+        }
+        assertEquals(3, list.getSize());
+        assertThrows(IllegalStateException.class, it::remove, "remove() called twice");
+        assertThrows(NoSuchElementException.class, it::next, "Iterator is exhausted");
+
+        expected = 1;
+        for (Integer element : list) {
+            assertEquals(expected, element);
+            expected += 3;
+        }
+        list.addLast(10);
+        assertEquals(10, list.removeLast(), "tail was kept up to date by remove()");
+    }
+
+    @Test
+    void iteratorFailFastTest() {
+        var list = range(5);
+
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.addFirst(-1);
+        assertThrows(ConcurrentModificationException.class, it::next, "List changed while iterating");
+    }
+}